@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.standalone.SyntheticCMLModelGenerator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.inject.Injector;
+
+/**
+ * Synthetic model (created by the {@link SyntheticCMLModelGenerator} and
+ * written to a temporary directory) and injector shared by all benchmarks. The
+ * model size is controlled by the JMH parameters.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class BenchmarkModelState {
+
+	@Param({ "20", "200" })
+	public int boundedContexts;
+
+	@Param({ "5" })
+	public int aggregatesPerContext;
+
+	@Param({ "5" })
+	public int entitiesPerAggregate;
+
+	@Param({ "2" })
+	public int relationshipsPerContext;
+
+	@Param({ "1" })
+	public int sharedKernels;
+
+	@Param({ "0" })
+	public int useCasesPerAggregate;
+
+	@Param({ "0" })
+	public int flowsPerContext;
+
+	@Param({ "0", "4" })
+	public int importedFiles;
+
+	private Injector injector;
+	private Map<String, String> files;
+	private Path directory;
+	private Path mainFile;
+
+	@Setup(Level.Trial)
+	public void createModel() throws IOException {
+		injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator();
+		generator.setBoundedContexts(boundedContexts);
+		generator.setAggregatesPerContext(aggregatesPerContext);
+		generator.setEntitiesPerAggregate(entitiesPerAggregate);
+		generator.setRelationshipsPerContext(relationshipsPerContext);
+		generator.setSharedKernels(sharedKernels);
+		generator.setUseCasesPerAggregate(useCasesPerAggregate);
+		generator.setFlowsPerContext(flowsPerContext);
+		generator.setImportedFiles(importedFiles);
+		files = generator.createFiles();
+		directory = Files.createTempDirectory("cml-benchmark");
+		mainFile = directory.resolve(SyntheticCMLModelGenerator.MAIN_FILE);
+		resetFiles();
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteModel() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	/**
+	 * Restores the original files (after a benchmark persisted changes).
+	 */
+	public void resetFiles() throws IOException {
+		for (Map.Entry<String, String> file : files.entrySet())
+			Files.write(directory.resolve(file.getKey()), file.getValue().getBytes(StandardCharsets.UTF_8));
+	}
+
+	public Injector getInjector() {
+		return injector;
+	}
+
+	/**
+	 * Parses all files of the model into a new resource set (without linking).
+	 */
+	public XtextResourceSet parse() {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		for (String fileName : files.keySet())
+			resourceSet.getResource(URI.createFileURI(directory.resolve(fileName).toString()), true);
+		return resourceSet;
+	}
+
+	/**
+	 * Loads the main file and resolves all cross references (including the ones
+	 * into the imported files).
+	 */
+	public CMLResource parseAndLink() {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		CMLResource resource = new CMLResource(resourceSet.getResource(URI.createFileURI(mainFile.toString()), true));
+		EcoreUtil2.resolveAll(resourceSet);
+		return resource;
+	}
+
+}
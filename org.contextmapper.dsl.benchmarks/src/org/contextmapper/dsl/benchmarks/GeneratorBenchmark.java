@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.generator.ContextMapGenerator;
+import org.contextmapper.dsl.generator.MDSLContractsGenerator;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.IGenerator2;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generators on the linked synthetic model. The output is written into memory,
+ * so that the benchmarks do not measure disk I/O.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+
+	private CMLResource resource;
+
+	@Setup(Level.Trial)
+	public void loadModel(BenchmarkModelState state) {
+		resource = state.parseAndLink();
+	}
+
+	@Benchmark
+	public Map<String, Object> plantUML() {
+		return generate(new PlantUMLGenerator());
+	}
+
+	@Benchmark
+	public Map<String, Object> mdslContracts() {
+		return generate(new MDSLContractsGenerator());
+	}
+
+	@Benchmark
+	public Map<String, Object> contextMapDOT() {
+		ContextMapGenerator generator = new ContextMapGenerator();
+		generator.setContextMapFormats(ContextMapFormat.DOT);
+		return generate(generator);
+	}
+
+	private Map<String, Object> generate(IGenerator2 generator) {
+		InMemoryFileSystemAccess fsa = new InMemoryFileSystemAccess();
+		generator.doGenerate(resource, fsa, new GeneratorContext());
+		return fsa.getAllFiles();
+	}
+
+}
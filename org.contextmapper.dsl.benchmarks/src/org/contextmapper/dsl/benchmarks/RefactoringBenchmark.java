@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.ExtractSharedKernelRefactoring;
+import org.contextmapper.dsl.refactoring.MergeAggregatesRefactoring;
+import org.contextmapper.dsl.refactoring.MergeBoundedContextsRefactoring;
+import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
+import org.contextmapper.dsl.refactoring.SplitAggregateByEntitiesRefactoring;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Refactorings (including persisting the changes) on the synthetic model. Every
+ * invocation works on freshly loaded files.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RefactoringBenchmark {
+
+	@Param({ "MergeBoundedContexts", "MergeAggregates", "SplitAggregateByEntities", "ExtractSharedKernel" })
+	public String refactoring;
+
+	private CMLResource resource;
+	private ISerializer serializer;
+
+	@Setup(Level.Invocation)
+	public void loadModel(BenchmarkModelState state) throws IOException {
+		state.resetFiles();
+		resource = state.parseAndLink();
+		serializer = state.getInjector().getInstance(ISerializer.class);
+	}
+
+	@Benchmark
+	public CMLResource refactorAndPersist() {
+		SemanticCMLRefactoring semanticRefactoring = createRefactoring();
+		semanticRefactoring.refactor(resource);
+		semanticRefactoring.persistChanges(serializer);
+		return resource;
+	}
+
+	@Benchmark
+	public CMLResource refactorAndPersistChangedElements() {
+		SemanticCMLRefactoring semanticRefactoring = createRefactoring();
+		semanticRefactoring.refactor(resource);
+		semanticRefactoring.persistChangedElements(serializer);
+		return resource;
+	}
+
+	private SemanticCMLRefactoring createRefactoring() {
+		switch (refactoring) {
+		case "MergeBoundedContexts":
+			return new MergeBoundedContextsRefactoring("Context0", "Context1");
+		case "MergeAggregates":
+			return new MergeAggregatesRefactoring("Aggregate0_0", "Aggregate0_1");
+		case "SplitAggregateByEntities":
+			return new SplitAggregateByEntitiesRefactoring("Aggregate0_0");
+		case "ExtractSharedKernel":
+			return new ExtractSharedKernelRefactoring("Context0", "Context1");
+		default:
+			throw new IllegalArgumentException("Unknown refactoring: " + refactoring);
+		}
+	}
+
+}
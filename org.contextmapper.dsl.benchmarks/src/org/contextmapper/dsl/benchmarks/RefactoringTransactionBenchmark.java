@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.MergeAggregatesRefactoring;
+import org.contextmapper.dsl.refactoring.RefactoringTransaction;
+import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A sequence of refactorings on the synthetic model, persisted after every
+ * refactoring or once in a {@link RefactoringTransaction}. Every invocation
+ * works on freshly loaded files.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RefactoringTransactionBenchmark {
+
+	@Param({ "10" })
+	public int steps;
+
+	private CMLResource resource;
+	private ISerializer serializer;
+
+	@Setup(Level.Invocation)
+	public void loadModel(BenchmarkModelState state) throws IOException {
+		state.resetFiles();
+		resource = state.parseAndLink();
+		serializer = state.getInjector().getInstance(ISerializer.class);
+	}
+
+	@Benchmark
+	public CMLResource persistEveryRefactoring() {
+		for (int i = 0; i < steps; i++) {
+			SemanticCMLRefactoring refactoring = createRefactoring(i);
+			refactoring.refactor(resource);
+			refactoring.persistChangedElements(serializer);
+		}
+		return resource;
+	}
+
+	@Benchmark
+	public CMLResource persistOnceInTransaction() {
+		RefactoringTransaction transaction = new RefactoringTransaction(resource, serializer, null);
+		for (int i = 0; i < steps; i++)
+			transaction.apply(createRefactoring(i));
+		transaction.commit();
+		return resource;
+	}
+
+	private SemanticCMLRefactoring createRefactoring(int step) {
+		return new MergeAggregatesRefactoring("Aggregate" + step + "_0", "Aggregate" + step + "_1");
+	}
+
+}
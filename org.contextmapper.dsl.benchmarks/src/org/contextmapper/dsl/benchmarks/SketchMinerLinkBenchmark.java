@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.generator.sketchminer.LZString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compression of BPMN Sketch Miner input for the links to the Sketch Miner
+ * (the input is similar to the one created from a flow with the given number
+ * of tasks).
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SketchMinerLinkBenchmark {
+
+	@Param({ "100", "10000" })
+	public int tasks;
+
+	private String sketchMinerInput;
+
+	@Setup(Level.Trial)
+	public void createInput() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < tasks; i++) {
+			sb.append("Actor").append(i % 7).append(":").append(System.lineSeparator());
+			sb.append("Task").append(i).append(" ProcessObject").append(i % 13).append(System.lineSeparator());
+			if (i % 10 == 0)
+				sb.append(System.lineSeparator());
+		}
+		sketchMinerInput = sb.toString();
+	}
+
+	@Benchmark
+	public String compressToEncodedURIComponent() {
+		return LZString.compressToEncodedURIComponent(sketchMinerInput);
+	}
+
+}
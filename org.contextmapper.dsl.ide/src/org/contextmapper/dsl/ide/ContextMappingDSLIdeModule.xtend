@@ -18,9 +18,11 @@ package org.contextmapper.dsl.ide
 import org.contextmapper.dsl.ide.actions.CMLActionService
 import org.contextmapper.dsl.ide.commands.CMLCommandService
 import org.contextmapper.dsl.ide.hover.CMLHoverService
+import org.contextmapper.dsl.validation.IncrementalResourceValidator
 import org.eclipse.xtext.ide.server.codeActions.ICodeActionService2
 import org.eclipse.xtext.ide.server.commands.IExecutableCommandService
 import org.eclipse.xtext.ide.server.hover.HoverService
+import org.eclipse.xtext.validation.IResourceValidator
 
 /**
  * Use this class to register ide components.
@@ -39,4 +41,8 @@ class ContextMappingDSLIdeModule extends AbstractContextMappingDSLIdeModule {
 		return CMLHoverService
 	}
 
+	def Class<? extends IResourceValidator> bindIResourceValidator() {
+		return IncrementalResourceValidator
+	}
+
 }
@@ -18,6 +18,7 @@ package org.contextmapper.dsl.ide.commands.impl.generation;
 import java.io.File;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
 import org.contextmapper.dsl.ide.commands.CMLResourceCommand;
 import org.contextmapper.dsl.standalone.FileSystemHelper;
 import org.eclipse.emf.common.util.URI;
@@ -43,7 +44,14 @@ public abstract class AbstractGenerationCommand implements CMLResourceCommand {
 
 	@Override
 	public void executeCommand(CMLResource cmlResource, Document document, ILanguageServerAccess access, ExecuteCommandParams params) {
-		getGenerator().doGenerate(cmlResource, getFileSystemAccess(cmlResource, access), new GeneratorContext());
+		if (!IncrementalFileSystemAccess.isEnabledBySystemProperty()) {
+			getGenerator().doGenerate(cmlResource, getFileSystemAccess(cmlResource, access), new GeneratorContext());
+			return;
+		}
+		// only changed artifacts are generated and written again
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(getFileSystemAccess(cmlResource, access));
+		getGenerator().doGenerate(cmlResource, fsa, new GeneratorContext());
+		fsa.saveManifest();
 	}
 
 	protected JavaIoFileSystemAccess getFileSystemAccess(CMLResource cmlResource, ILanguageServerAccess access) {
@@ -16,6 +16,7 @@
 package org.contextmapper.dsl
 
 import com.google.inject.Inject
+import org.contextmapper.dsl.contextMappingDSL.Aggregate
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel
 import org.contextmapper.dsl.tests.ContextMappingDSLInjectorProvider
 import org.contextmapper.tactic.dsl.tacticdsl.DomainObject
@@ -146,5 +147,34 @@ class TacticDDDAssociatonsGrammarTest {
 		this.validationTestHelper.assertError(result, TacticdslPackage.Literals.ASSOCIATION, "org.eclipse.xtext.diagnostics.Diagnostic.Linking", 
         	"Couldn't resolve reference to SimpleDomainObject 'Address'.");
 	}
+	
+	@Test
+	def void canResolveAssociationWithinBCIfSubdomainContainsObjectWithSameName() {
+		// given
+		val String dslSnippet = '''
+			Domain TestDomain {
+				Subdomain TestSubdomain {
+					Entity Address
+				}
+			}
+			
+			BoundedContext TestContext {
+				Aggregate TestAggregate {
+					Entity Customer {
+						-- "lives at" @Address
+					}
+					Entity Address
+				}
+			}
+		''';
+
+		// when
+		val ContextMappingModel result = parseHelper.parse(dslSnippet);
+		val customer = result.boundedContexts.get(0).aggregates.get(0).domainObjects.get(0) as DomainObject;
+
+		// then
+		assertThatNoParsingErrorsOccurred(result);
+		assertEquals("TestAggregate", (customer.associations.get(0).domainObjectType.eContainer as Aggregate).name);
+	}
 
 }
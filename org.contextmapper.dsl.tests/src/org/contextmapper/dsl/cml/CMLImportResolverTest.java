@@ -16,6 +16,10 @@
 package org.contextmapper.dsl.cml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -23,7 +27,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.junit.jupiter.api.Test;
 
 public class CMLImportResolverTest extends AbstractCMLInputFileTest {
@@ -68,6 +78,113 @@ public class CMLImportResolverTest extends AbstractCMLInputFileTest {
 		assertTrue(importedResources.isEmpty());
 	}
 
+	@Test
+	public void canResolveTransitivelyImportedResources() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("transitive-import-test.cml");
+
+		// when
+		Set<CMLResource> importedResources = new CMLImportResolver().resolveTransitivelyImportedResources(input);
+
+		// then
+		Set<String> importedFiles = importedResources.stream().map(r -> r.getURI().lastSegment()).collect(Collectors.toSet());
+		assertEquals(2, importedFiles.size());
+		assertTrue(importedFiles.contains("simple-import-test.cml"));
+		assertTrue(importedFiles.contains("other-contexts.cml"));
+	}
+
+	@Test
+	public void canReuseCachedImports() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		CMLResource importedResource = new CMLImportResolver().resolveImportedResources(input).iterator().next();
+		int resourceCount = resourceSet.getResources().size();
+
+		// when
+		Set<CMLResource> importedResources = new CMLImportResolver().resolveImportedResources(input);
+
+		// then
+		assertEquals(1, importedResources.size());
+		assertSame(importedResource, importedResources.iterator().next());
+		assertEquals(resourceCount, resourceSet.getResources().size());
+	}
+
+	@Test
+	public void canInvalidateCachedImportsIfImportIsRemoved() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		assertEquals(1, new CMLImportResolver().resolveImportedResources(input).size());
+
+		// when
+		input.getContextMappingModel().getImports().clear();
+		Set<CMLResource> importedResources = new CMLImportResolver().resolveImportedResources(input);
+
+		// then
+		assertTrue(importedResources.isEmpty());
+	}
+
+	@Test
+	public void canInvalidateCachedImportsIfImportedResourceIsUnloaded() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		CMLResource importedResource = new CMLImportResolver().resolveImportedResources(input).iterator().next();
+		ContextMappingModel importedModel = importedResource.getContextMappingModel();
+
+		// when
+		importedResource.unload();
+		resourceSet.getResources().remove(resourceSet.getResource(importedResource.getURI(), false));
+		Set<CMLResource> importedResources = new CMLImportResolver().resolveImportedResources(input);
+
+		// then
+		assertEquals(1, importedResources.size());
+		assertNotSame(importedModel, importedResources.iterator().next().getContextMappingModel());
+		assertEquals(2, importedResources.iterator().next().getContextMappingModel().getBoundedContexts().size());
+	}
+
+	@Test
+	public void canEvictCachedImportsIfResourceIsRemoved() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		new CMLImportResolver().resolveImportedResources(input);
+		assertTrue(CMLImportGraph.getImportGraph(resourceSet).isCached(input.getURI()));
+
+		// when
+		resourceSet.getResources().remove(resourceSet.getResource(input.getURI(), false));
+
+		// then
+		assertFalse(CMLImportGraph.getImportGraph(resourceSet).isCached(input.getURI()));
+	}
+
+	@Test
+	public void canEvictCachedImportsIfResourceIsUnloaded() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		new CMLImportResolver().resolveImportedResources(input);
+
+		// when
+		input.unload();
+
+		// then
+		assertFalse(CMLImportGraph.getImportGraph(resourceSet).isCached(input.getURI()));
+	}
+
+	@Test
+	public void cannotResolveImportsWithoutResourceSet() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		Import cmlImport = ContextMappingDSLFactory.eINSTANCE.createImport();
+		cmlImport.setImportURI("./other-contexts.cml");
+		model.getImports().add(cmlImport);
+		Resource resource = new ResourceImpl(URI.createURI("test.cml"));
+		resource.getContents().add(model);
+		CMLResource input = new CMLResource(resource);
+
+		// when, then
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			new CMLImportResolver().resolveTransitivelyImportedResources(input);
+		});
+	}
+
 	@Override
 	protected String getTestFileDirectory() {
 		return "/integ-test-files/imports/";
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.junit.jupiter.api.Test;
+
+public class CMLNameIndexTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canIndexObjectsOfRootModelAndImports() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("uniqueness-validation-test.cml");
+
+		// when
+		CMLNameIndex index = new CMLNameIndex(input.getContextMappingModel(), BoundedContext.class);
+
+		// then
+		assertEquals(2, index.countObjectsByName(BoundedContext.class, "anotherContext"));
+		assertEquals(1, index.countObjectsByName(BoundedContext.class, "yetAnotherContext"));
+		assertEquals(0, index.countObjectsByName(BoundedContext.class, "notExistingContext"));
+	}
+
+	@Test
+	public void canIndexModelWithoutResource() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName("TestContext");
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("TestAggregate");
+		bc.getAggregates().add(aggregate);
+		model.getBoundedContexts().add(bc);
+
+		// when
+		CMLNameIndex index = new CMLNameIndex(model, BoundedContext.class, Aggregate.class);
+
+		// then
+		assertEquals(bc, index.getObjectsByName(BoundedContext.class, "TestContext").get(0));
+		assertEquals(aggregate, index.getObjectsByName(Aggregate.class, "TestAggregate").get(0));
+		assertTrue(index.getObjectsByName(Aggregate.class, null).isEmpty());
+	}
+
+	@Test
+	public void cannotLookupTypeWhichIsNotIndexed() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		CMLNameIndex index = new CMLNameIndex(model, BoundedContext.class);
+
+		// when, then
+		assertThrows(IllegalArgumentException.class, () -> {
+			index.getObjectsByName(Aggregate.class, "TestAggregate");
+		});
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/imports/";
+	}
+
+}
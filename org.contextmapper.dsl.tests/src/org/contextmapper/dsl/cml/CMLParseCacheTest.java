@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.inject.Injector;
+
+public class CMLParseCacheTest {
+
+	private static final String CML = "ContextMap TestMap { contains CustomerContext, ContractContext CustomerContext [U]->[D] ContractContext }\n"
+			+ "BoundedContext CustomerContext { Aggregate Customers { Entity Customer { String name } } }\n" + "BoundedContext ContractContext\n";
+
+	@TempDir
+	Path tempDir;
+
+	private Injector injector;
+	private File cacheDirectory;
+	private File cmlFile;
+
+	@BeforeEach
+	public void prepare() throws IOException {
+		injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		cacheDirectory = tempDir.resolve("cache").toFile();
+		cmlFile = tempDir.resolve("model.cml").toFile();
+		Files.write(cmlFile.toPath(), CML.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void storesParsedResource() {
+		// when
+		CMLStorageAwareResource resource = load();
+
+		// then
+		assertFalse(resource.isLoadedFromStorage());
+		assertEquals(1, cacheDirectory.listFiles().length);
+	}
+
+	@Test
+	public void loadsResourceFromCache() {
+		// given
+		load();
+
+		// when
+		CMLStorageAwareResource resource = load();
+
+		// then
+		assertTrue(resource.isLoadedFromStorage());
+		ContextMappingModel model = (ContextMappingModel) resource.getContents().get(0);
+		assertEquals(2, model.getBoundedContexts().size());
+		assertNotNull(NodeModelUtils.getNode(model.getBoundedContexts().get(0)));
+		UpstreamDownstreamRelationship relationship = (UpstreamDownstreamRelationship) model.getMap().getRelationships().get(0);
+		assertEquals("CustomerContext", relationship.getUpstream().getName());
+	}
+
+	@Test
+	public void parsesChangedFileAgain() throws IOException {
+		// given
+		load();
+		Files.write(cmlFile.toPath(), (CML + "BoundedContext AnotherContext\n").getBytes(StandardCharsets.UTF_8));
+
+		// when
+		CMLStorageAwareResource resource = load();
+
+		// then
+		assertFalse(resource.isLoadedFromStorage());
+		assertEquals(3, ((ContextMappingModel) resource.getContents().get(0)).getBoundedContexts().size());
+	}
+
+	@Test
+	public void parsesFileAgainIfCacheEntryIsCorrupt() throws IOException {
+		// given
+		load();
+		File cacheFile = cacheDirectory.listFiles()[0];
+		Files.write(cacheFile.toPath(), "corrupt".getBytes(StandardCharsets.UTF_8));
+
+		// when
+		CMLStorageAwareResource resource = load();
+
+		// then
+		assertFalse(resource.isLoadedFromStorage());
+		assertEquals(2, ((ContextMappingModel) resource.getContents().get(0)).getBoundedContexts().size());
+	}
+
+	@Test
+	public void doesNotChangeResourcesWithoutCache() {
+		// given
+		ResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+
+		// when
+		Resource resource = resourceSet.getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true);
+
+		// then
+		assertFalse(resource instanceof CMLStorageAwareResource);
+		assertEquals(2, ((ContextMappingModel) resource.getContents().get(0)).getBoundedContexts().size());
+	}
+
+	private CMLStorageAwareResource load() {
+		ResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		CMLParseCache.install(resourceSet, cacheDirectory);
+		return (CMLStorageAwareResource) resourceSet.getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true);
+	}
+
+}
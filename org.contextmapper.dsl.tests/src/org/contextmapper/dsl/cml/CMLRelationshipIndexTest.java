@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.refactoring.ContextMappingModelHelper;
+import org.junit.jupiter.api.Test;
+
+public class CMLRelationshipIndexTest {
+
+	@Test
+	public void canFindRelationshipsOfContext() {
+		// given
+		ContextMap map = createModel().getMap();
+
+		// when
+		CMLRelationshipIndex index = CMLRelationshipIndex.getIndex(map);
+
+		// then
+		assertEquals(map.getRelationships(), index.getRelationships("Customers"));
+		assertEquals(1, index.getRelationships("Policies").size());
+		assertSame(map.getRelationships().get(0), index.getRelationships("Policies").get(0));
+		assertSame(map.getRelationships().get(1), index.getRelationships("Printing").get(0));
+		assertTrue(index.getRelationships("Unknown").isEmpty());
+	}
+
+	@Test
+	public void reusesIndexAttachedToContextMap() {
+		// given
+		ContextMap map = createModel().getMap();
+
+		// when
+		CMLRelationshipIndex index1 = CMLRelationshipIndex.getIndex(map);
+		CMLRelationshipIndex index2 = CMLRelationshipIndex.getIndex(map);
+
+		// then
+		assertSame(index1, index2);
+		assertTrue(map.eAdapters().contains(index1));
+		assertTrue(map.eContainer().eAdapters().isEmpty());
+	}
+
+	@Test
+	public void canUpdateIndexIfRelationshipsChange() {
+		// given
+		ContextMappingModel model = createModel();
+		ContextMap map = model.getMap();
+		assertEquals(1, CMLRelationshipIndex.getIndex(map).getRelationships("Policies").size());
+
+		// when
+		map.getRelationships().remove(1);
+		((UpstreamDownstreamRelationship) map.getRelationships().get(0)).setDownstream(model.getBoundedContexts().get(2));
+
+		// then
+		assertTrue(CMLRelationshipIndex.getIndex(map).getRelationships("Policies").isEmpty());
+		assertEquals(1, CMLRelationshipIndex.getIndex(map).getRelationships("Printing").size());
+		assertSame(map.getRelationships().get(0), CMLRelationshipIndex.getIndex(map).getRelationships("Printing").get(0));
+	}
+
+	@Test
+	public void canUpdateIndexIfContextIsRenamed() {
+		// given
+		ContextMappingModel model = createModel();
+		ContextMap map = model.getMap();
+		assertEquals(2, CMLRelationshipIndex.getIndex(map).getRelationships("Customers").size());
+
+		// when
+		model.getBoundedContexts().get(0).setName("Clients");
+
+		// then
+		assertTrue(CMLRelationshipIndex.getIndex(map).getRelationships("Customers").isEmpty());
+		assertEquals(2, CMLRelationshipIndex.getIndex(map).getRelationships("Clients").size());
+	}
+
+	@Test
+	public void canUpdateIndexIfContextOfOtherModelIsRenamed() {
+		// given
+		ContextMappingModel model = createModel();
+		ContextMappingModel importedModel = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext contracts = createBoundedContext(importedModel, "Contracts");
+		UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		relationship.setUpstream(contracts);
+		relationship.setDownstream(model.getBoundedContexts().get(1));
+		model.getMap().getRelationships().add(relationship);
+		assertEquals(1, CMLRelationshipIndex.getIndex(model.getMap()).getRelationships("Contracts").size());
+
+		// when
+		contracts.setName("Agreements");
+
+		// then
+		assertTrue(CMLRelationshipIndex.getIndex(model.getMap()).getRelationships("Contracts").isEmpty());
+		assertSame(relationship, CMLRelationshipIndex.getIndex(model.getMap()).getRelationships("Agreements").get(0));
+	}
+
+	@Test
+	public void helperFindsRelationshipsInOrderOfMap() {
+		// given
+		ContextMappingModel model = createModel();
+		ContextMap contextMap = model.getMap();
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		BoundedContext customers = model.getBoundedContexts().get(0);
+		BoundedContext printing = model.getBoundedContexts().get(2);
+
+		// when
+		List<Relationship> involvingCustomers = helper.findAnyRelationshipsInvolvingContext(customers);
+		List<Relationship> betweenPrintingAndCustomers = helper.findAnyRelationshipsBetweenTwoContexts(printing, customers);
+
+		// then
+		assertEquals(contextMap.getRelationships(), involvingCustomers);
+		assertEquals(1, betweenPrintingAndCustomers.size());
+		assertSame(contextMap.getRelationships().get(1), betweenPrintingAndCustomers.get(0));
+	}
+
+	private ContextMappingModel createModel() {
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext customers = createBoundedContext(model, "Customers");
+		BoundedContext policies = createBoundedContext(model, "Policies");
+		BoundedContext printing = createBoundedContext(model, "Printing");
+		ContextMap map = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		UpstreamDownstreamRelationship upDownRelationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		upDownRelationship.setUpstream(customers);
+		upDownRelationship.setDownstream(policies);
+		Partnership partnership = ContextMappingDSLFactory.eINSTANCE.createPartnership();
+		partnership.setParticipant1(printing);
+		partnership.setParticipant2(customers);
+		map.getRelationships().add(upDownRelationship);
+		map.getRelationships().add(partnership);
+		model.setMap(map);
+		return model;
+	}
+
+	private BoundedContext createBoundedContext(ContextMappingModel model, String name) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName(name);
+		model.getBoundedContexts().add(bc);
+		return bc;
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
+import org.junit.jupiter.api.Test;
+
+public class CMLTypeIndexTest {
+
+	@Test
+	public void canFindObjectsOfTypeIncludingSubtypes() {
+		// given
+		ContextMappingModel model = createModel();
+
+		// when
+		List<SimpleDomainObject> domainObjects = CMLTypeIndex.getIndex(model).getObjectsOfType(SimpleDomainObject.class);
+		List<Entity> entities = CMLTypeIndex.getIndex(model).getObjectsOfType(Entity.class);
+
+		// then
+		assertEquals(2, domainObjects.size());
+		assertEquals(1, entities.size());
+		assertEquals("TestEntity", entities.get(0).getName());
+	}
+
+	@Test
+	public void canFindModelItself() {
+		// given
+		ContextMappingModel model = createModel();
+
+		// when
+		List<ContextMappingModel> models = CMLTypeIndex.getIndex(model).getObjectsOfType(ContextMappingModel.class);
+
+		// then
+		assertEquals(1, models.size());
+		assertSame(model, models.get(0));
+	}
+
+	@Test
+	public void reusesIndexAttachedToModel() {
+		// given
+		ContextMappingModel model = createModel();
+
+		// when
+		CMLTypeIndex index1 = CMLTypeIndex.getIndex(model);
+		CMLTypeIndex index2 = CMLTypeIndex.getIndex(model);
+
+		// then
+		assertSame(index1, index2);
+	}
+
+	@Test
+	public void canUpdateIndexIfObjectsAreAdded() {
+		// given
+		ContextMappingModel model = createModel();
+		assertEquals(1, CMLTypeIndex.getIndex(model).getObjectsOfType(Aggregate.class).size());
+
+		// when
+		Aggregate newAggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		Entity newEntity = TacticdslFactory.eINSTANCE.createEntity();
+		newAggregate.getDomainObjects().add(newEntity);
+		model.getBoundedContexts().get(0).getAggregates().add(newAggregate);
+
+		// then
+		assertEquals(2, CMLTypeIndex.getIndex(model).getObjectsOfType(Aggregate.class).size());
+		assertTrue(CMLTypeIndex.getIndex(model).getObjectsOfType(Entity.class).contains(newEntity));
+	}
+
+	@Test
+	public void canUpdateIndexIfObjectsAreRemoved() {
+		// given
+		ContextMappingModel model = createModel();
+		assertEquals(1, CMLTypeIndex.getIndex(model).getObjectsOfType(BoundedContext.class).size());
+
+		// when
+		model.getBoundedContexts().clear();
+
+		// then
+		assertTrue(CMLTypeIndex.getIndex(model).getObjectsOfType(BoundedContext.class).isEmpty());
+		assertTrue(CMLTypeIndex.getIndex(model).getObjectsOfType(SimpleDomainObject.class).isEmpty());
+	}
+
+	@Test
+	public void canRemoveIndexFromModel() {
+		// given
+		ContextMappingModel model = createModel();
+		CMLTypeIndex index = CMLTypeIndex.getIndex(model);
+
+		// when
+		CMLTypeIndex.removeIndex(model);
+
+		// then
+		assertFalse(model.eAdapters().contains(index));
+		assertFalse(model.getBoundedContexts().get(0).eAdapters().contains(index));
+		assertNotSame(index, CMLTypeIndex.getIndex(model));
+	}
+
+	private ContextMappingModel createModel() {
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName("TestEntity");
+		ValueObject valueObject = TacticdslFactory.eINSTANCE.createValueObject();
+		valueObject.setName("TestValueObject");
+		aggregate.getDomainObjects().add(entity);
+		aggregate.getDomainObjects().add(valueObject);
+		bc.getAggregates().add(aggregate);
+		model.getBoundedContexts().add(bc);
+		return model;
+	}
+
+}
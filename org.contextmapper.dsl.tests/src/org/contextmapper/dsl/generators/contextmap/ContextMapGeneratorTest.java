@@ -15,24 +15,33 @@
  */
 package org.contextmapper.dsl.generators.contextmap;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
 import org.contextmapper.dsl.generator.exception.NoContextMapDefinedException;
 import org.contextmapper.dsl.generators.mocks.ContextMappingModelResourceMock;
 import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
 import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.io.ByteStreams;
+
 class ContextMapGeneratorTest {
 
 	private ContextMapGenerator generator;
@@ -89,6 +98,30 @@ class ContextMapGeneratorTest {
 		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.gv"));
 	}
 
+	@Test
+	void generatesSameGraphicsForAllFormatsAsForSingleFormats() throws IOException {
+		// given
+		ContextMappingModel model = createModelWithRelationship();
+		InMemoryFileSystemAccess allFormatsFilesystem = new InMemoryFileSystemAccess();
+		InMemoryFileSystemAccess singleFormatFilesystem = new InMemoryFileSystemAccess();
+
+		// when
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), allFormatsFilesystem, new IGeneratorContextMock());
+		for (ContextMapFormat format : ContextMapFormat.values()) {
+			ContextMapGenerator singleFormatGenerator = new ContextMapGenerator();
+			singleFormatGenerator.setContextMapFormats(format);
+			singleFormatGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), singleFormatFilesystem, new IGeneratorContextMock());
+		}
+
+		// then
+		for (ContextMapFormat format : ContextMapFormat.values()) {
+			String fileName = "testmodel_ContextMap." + format.getFileExtension();
+			byte[] graphic = readFile(allFormatsFilesystem, fileName);
+			assertTrue(graphic.length > 0);
+			assertArrayEquals(readFile(singleFormatFilesystem, fileName), graphic);
+		}
+	}
+
 	@Test
 	void canChangeLabelSpacingFactor() {
 		// given
@@ -275,6 +308,31 @@ class ContextMapGeneratorTest {
 		});
 	}
 
+	private ContextMappingModel createModelWithRelationship() {
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext customers = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		customers.setName("CustomerManagement");
+		BoundedContext policies = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		policies.setName("PolicyManagement");
+		model.getBoundedContexts().add(customers);
+		model.getBoundedContexts().add(policies);
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		contextMap.getBoundedContexts().add(customers);
+		contextMap.getBoundedContexts().add(policies);
+		UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		relationship.setUpstream(customers);
+		relationship.setDownstream(policies);
+		contextMap.getRelationships().add(relationship);
+		model.setMap(contextMap);
+		return model;
+	}
+
+	private byte[] readFile(InMemoryFileSystemAccess filesystem, String fileName) throws IOException {
+		try (InputStream inputStream = filesystem.readBinaryFile(fileName)) {
+			return ByteStreams.toByteArray(inputStream);
+		}
+	}
+
 	private class TestGraphvizContextMapGenerator extends org.contextmapper.contextmap.generator.ContextMapGenerator {
 		public int getLabelSpacingFactor() {
 			return labelSpacingFactor;
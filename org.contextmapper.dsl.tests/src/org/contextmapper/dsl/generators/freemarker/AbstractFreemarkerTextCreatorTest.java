@@ -18,7 +18,10 @@ package org.contextmapper.dsl.generators.freemarker;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.contextmapper.dsl.generator.AbstractFreemarkerTextCreator;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,16 @@ public class AbstractFreemarkerTextCreatorTest {
 		assertEquals("Hello Tester!", text);
 	}
 
+	@Test
+	public void canGenerateTextConcurrently() {
+		// when
+		List<String> texts = IntStream.range(0, 100).parallel().mapToObj(i -> new SimpleTextCreator().createText("Tester" + i)).collect(Collectors.toList());
+
+		// then
+		for (int i = 0; i < texts.size(); i++)
+			assertEquals("Hello Tester" + i + "!", texts.get(i));
+	}
+
 	@Test
 	public void cannotGenerateTextIfClassIsWrong() {
 		assertThrows(RuntimeException.class, () -> {
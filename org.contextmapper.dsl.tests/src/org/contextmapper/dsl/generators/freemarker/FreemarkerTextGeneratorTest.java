@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.freemarker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.generator.freemarker.FreemarkerTextGenerator;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class FreemarkerTextGeneratorTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canReuseGeneratorConcurrently() throws IOException {
+		// given
+		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(getCopyOfTestInputFile("custom-variables-test-1.ftl"));
+		ContextMappingModel model = getResourceCopyOfTestCML("simple-context-map.cml").getContextMappingModel();
+
+		// when
+		List<String> texts = IntStream.range(0, 50).parallel().mapToObj(i -> generator.generate(model, ImmutableMap.of("projectName", "Project" + i)))
+				.collect(Collectors.toList());
+
+		// then
+		for (int i = 0; i < texts.size(); i++)
+			assertEquals("Project" + i, texts.get(i));
+	}
+
+	@Test
+	public void modelDataCannotBeOverwrittenByCustomProperties() throws IOException {
+		// given
+		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(getCopyOfTestInputFile("simple-template.ftl"));
+		generator.registerCustomModelProperty("contextMap", "custom");
+
+		// when
+		String text = generator.generate(getResourceCopyOfTestCML("simple-context-map.cml").getContextMappingModel());
+
+		// then
+		assertEquals("testMap", text);
+	}
+
+	@Test
+	public void reloadsModifiedTemplate() throws IOException {
+		// given
+		File templateFile = getCopyOfTestInputFile("simple-template.ftl");
+		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(templateFile);
+		ContextMappingModel model = getResourceCopyOfTestCML("simple-context-map.cml").getContextMappingModel();
+		String originalText = generator.generate(model);
+
+		// when
+		FileUtils.writeStringToFile(templateFile, "Map: ${contextMap.name}", StandardCharsets.UTF_8);
+		templateFile.setLastModified(templateFile.lastModified() + 10000);
+		String changedText = generator.generate(model);
+
+		// then
+		assertEquals("testMap", originalText);
+		assertEquals("Map: testMap", changedText);
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/freemarker/";
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.generator.incremental.ModelFingerprint;
+import org.contextmapper.dsl.generators.mocks.ContextMappingModelResourceMock;
+import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.parser.IEncodingProvider;
+import org.eclipse.xtext.service.AbstractGenericModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Guice;
+
+public class IncrementalFileSystemAccessTest extends AbstractCMLInputFileTest {
+
+	private WriteCountingFileSystemAccess delegate;
+
+	@BeforeEach
+	public void prepare() {
+		super.prepare();
+		delegate = new WriteCountingFileSystemAccess();
+	}
+
+	@Test
+	public void doesNotRewriteUnchangedFile() {
+		// given
+		generate("test.txt", "content");
+
+		// when
+		generate("test.txt", "content");
+
+		// then
+		assertEquals(1, delegate.getWrites("test.txt"));
+		assertTrue(delegate.isFile(IncrementalFileSystemAccess.MANIFEST_FILE));
+	}
+
+	@Test
+	public void rewritesChangedFile() {
+		// given
+		generate("test.txt", "content");
+
+		// when
+		generate("test.txt", "changed content");
+
+		// then
+		assertEquals(2, delegate.getWrites("test.txt"));
+		assertEquals("changed content", delegate.readTextFile("test.txt").toString());
+	}
+
+	@Test
+	public void fileIsUpToDateIfFingerprintDidNotChange() {
+		// given
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(delegate);
+		assertFalse(fsa.isUpToDate("test.txt", "fingerprint1"));
+		fsa.generateFile("test.txt", "content");
+		fsa.saveManifest();
+
+		// when
+		IncrementalFileSystemAccess nextFsa = new IncrementalFileSystemAccess(delegate);
+
+		// then
+		assertTrue(nextFsa.isUpToDate("test.txt", "fingerprint1"));
+		assertFalse(nextFsa.isUpToDate("test.txt", "fingerprint2"));
+		assertFalse(nextFsa.isUpToDate("test.txt", null));
+	}
+
+	@Test
+	public void fileIsUpToDateIfWrittenInOtherEncoding() {
+		// given
+		JavaIoFileSystemAccess latin1Delegate = new JavaIoFileSystemAccess();
+		Guice.createInjector(new AbstractGenericModule() {
+			public Class<? extends IEncodingProvider> bindIEncodingProvider() {
+				return Latin1EncodingProvider.class;
+			}
+		}).injectMembers(latin1Delegate);
+		latin1Delegate.setOutputPath(new File(testDir, "latin1-output").getAbsolutePath());
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(latin1Delegate);
+		assertFalse(fsa.isUpToDate("test.txt", "fingerprint"));
+		fsa.generateFile("test.txt", "Gr\u00fcezi");
+		fsa.saveManifest();
+
+		// when
+		IncrementalFileSystemAccess nextFsa = new IncrementalFileSystemAccess(latin1Delegate);
+
+		// then
+		assertTrue(nextFsa.isUpToDate("test.txt", "fingerprint"));
+	}
+
+	@Test
+	public void binaryFileIsUpToDateIfFingerprintDidNotChange() {
+		// given
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(delegate);
+		assertFalse(fsa.isUpToDate("test.png", "fingerprint"));
+		fsa.generateFile("test.png", new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+		fsa.saveManifest();
+
+		// when
+		IncrementalFileSystemAccess nextFsa = new IncrementalFileSystemAccess(delegate);
+
+		// then
+		assertTrue(nextFsa.isUpToDate("test.png", "fingerprint"));
+	}
+
+	@Test
+	public void fileIsNotUpToDateIfChangedByUser() {
+		// given
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(delegate);
+		fsa.isUpToDate("test.txt", "fingerprint");
+		fsa.generateFile("test.txt", "content");
+		fsa.saveManifest();
+		delegate.generateFile("test.txt", "edited by user");
+
+		// when
+		IncrementalFileSystemAccess nextFsa = new IncrementalFileSystemAccess(delegate);
+
+		// then
+		assertFalse(nextFsa.isUpToDate("test.txt", "fingerprint"));
+	}
+
+	@Test
+	public void modelsCreatedInMemoryHaveNoFingerprint() {
+		// given
+		BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName("TestContext");
+
+		// when
+		String fingerprint = new ModelFingerprint(PlantUMLGenerator.class, boundedContext).getValue();
+
+		// then
+		assertNull(fingerprint);
+	}
+
+	@Test
+	public void fingerprintChangesIfImportedFileChanges() throws IOException {
+		// given
+		File importedFile = new File(testDir, "imported.cml");
+		File importingFile = new File(testDir, "importing.cml");
+		Files.write(importedFile.toPath(), "BoundedContext CustomerManagement".getBytes(StandardCharsets.UTF_8));
+		Files.write(importingFile.toPath(), "import \"./imported.cml\"\nBoundedContext PolicyManagement".getBytes(StandardCharsets.UTF_8));
+		String fingerprint = getFingerprintOfModel(importingFile);
+
+		// when
+		Files.write(importedFile.toPath(), "BoundedContext CustomerManagement { type = SYSTEM }".getBytes(StandardCharsets.UTF_8));
+
+		// then
+		assertNotNull(fingerprint);
+		assertNotEquals(fingerprint, getFingerprintOfModel(importingFile));
+	}
+
+	@Test
+	public void plantUMLGeneratorSkipsUnchangedDiagrams() throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("class-diagram-generation-aggregate-test-1.cml").getContextMappingModel();
+		assertNotNull(new ModelFingerprint(PlantUMLGenerator.class, model).getValue());
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(delegate);
+		new PlantUMLGenerator().doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), fsa, new IGeneratorContextMock());
+		fsa.saveManifest();
+		int writes = delegate.getAllWrites();
+
+		// when
+		IncrementalFileSystemAccess nextFsa = new IncrementalFileSystemAccess(delegate);
+		new PlantUMLGenerator().doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), nextFsa, new IGeneratorContextMock());
+		nextFsa.saveManifest();
+
+		// then
+		assertTrue(writes > 1);
+		assertEquals(writes, delegate.getAllWrites());
+	}
+
+	private String getFingerprintOfModel(File file) {
+		ContextMappingModel model = (ContextMappingModel) new ResourceSetImpl().getResource(URI.createFileURI(file.getAbsolutePath()), true).getContents().get(0);
+		return new ModelFingerprint(PlantUMLGenerator.class, model).getValue();
+	}
+
+	private void generate(String fileName, String content) {
+		IncrementalFileSystemAccess fsa = new IncrementalFileSystemAccess(delegate);
+		fsa.generateFile(fileName, content);
+		fsa.saveManifest();
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/generators/plantuml/";
+	}
+
+	public static class Latin1EncodingProvider implements IEncodingProvider {
+
+		@Override
+		public String getEncoding(URI uri) {
+			return StandardCharsets.ISO_8859_1.name();
+		}
+
+	}
+
+	private static class WriteCountingFileSystemAccess extends InMemoryFileSystemAccess {
+
+		private final List<String> writes = Lists.newArrayList();
+
+		@Override
+		public void generateFile(String fileName, String outputConfigName, CharSequence contents) {
+			writes.add(fileName);
+			super.generateFile(fileName, outputConfigName, contents);
+		}
+
+		private int getWrites(String fileName) {
+			return (int) writes.stream().filter(fileName::equals).count();
+		}
+
+		private int getAllWrites() {
+			return writes.size();
+		}
+
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.contextmapper.dsl.generators.mdsl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -22,6 +23,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
@@ -90,6 +92,50 @@ class MDSLContractsGeneratorTest extends AbstractCMLInputFileTest {
 		assertTrue(ids.contains("MyPreservedDataType"));
 	}
 
+	@Test
+	void canCreateMDSLFilesInParallel() throws IOException {
+		// given
+		ContextMappingModel model = getResourceCopyOfTestCML("context-is-upstream-in-multiple-relationships.cml").getContextMappingModel();
+		IFileSystemAccess2Mock sequentialFilesystem = new IFileSystemAccess2Mock();
+		new MDSLContractsGenerator().doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), sequentialFilesystem, new IGeneratorContextMock());
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		// when
+		IFileSystemAccess2Mock parallelFilesystem = new IFileSystemAccess2Mock();
+		try {
+			MDSLContractsGenerator generator = new MDSLContractsGenerator();
+			generator.setForkJoinPool(pool);
+			generator.doGenerate(new ContextMappingModelResourceMock(getResourceCopyOfTestCML("context-is-upstream-in-multiple-relationships.cml").getContextMappingModel(), "testmodel", "cml"),
+					parallelFilesystem, new IGeneratorContextMock());
+		} finally {
+			pool.shutdown();
+		}
+
+		// then
+		assertTrue(sequentialFilesystem.getGeneratedFilesSet().size() > 1);
+		assertEquals(sequentialFilesystem.getGeneratedFilesSet(), parallelFilesystem.getGeneratedFilesSet());
+	}
+
+	@Test
+	void canPreserveProtectedRegionInParallelMode() throws IOException {
+		// given
+		ContextMappingModel model = getResourceCopyOfTestCML("overwrite-with-preserving-protected-region-test.cml").getContextMappingModel();
+		File existingMDSLFile = new File(Paths.get("").toAbsolutePath().toString(), "/integ-test-files/mdsl/overwrite-with-preserving-protected-region-test.mdsl");
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		String mdslFileName = "testmodel_CustomerManagementContextAPI.mdsl";
+		filesystem.storeFile(mdslFileName, FileUtils.readFileToString(existingMDSLFile, Charset.forName("UTF-8")));
+		MDSLContractsGenerator generator = new MDSLContractsGenerator();
+		generator.setForkJoinPool(ForkJoinPool.commonPool());
+
+		// when
+		generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		ProtectedRegionReader reader = new ProtectedRegionReader();
+		String protectedSection = reader.getProtectedRegionContent(filesystem.readTextFile(mdslFileName).toString(), ProtectedRegionIdentifier.DATA_TYPE_REGION);
+		assertTrue(reader.getIdentifiersInProtectedRegion(protectedSection, ProtectedRegionIdentifier.DATA_TYPE_REGION).contains("MyPreservedDataType"));
+	}
+
 	@Override
 	protected String getTestFileDirectory() {
 		return "/integ-test-files/mdsl/";
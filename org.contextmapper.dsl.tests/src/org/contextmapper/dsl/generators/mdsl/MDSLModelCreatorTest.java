@@ -17,9 +17,11 @@ package org.contextmapper.dsl.generators.mdsl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.cml.CMLResource;
@@ -39,6 +41,41 @@ import org.junit.jupiter.api.Test;
 
 public class MDSLModelCreatorTest extends AbstractCMLInputFileTest {
 
+	@Test
+	void canGetServiceSpecificationNamesWithoutCreatingSpecifications() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("context-is-upstream-in-multiple-relationships.cml");
+		MDSLModelCreator mdslCreator = new MDSLModelCreator(input.getContextMappingModel());
+
+		// when
+		List<String> names = mdslCreator.getServiceSpecificationNames();
+
+		// then
+		assertEquals(mdslCreator.createServiceSpecifications().stream().map(spec -> spec.getName()).collect(Collectors.toList()), names);
+	}
+
+	@Test
+	void canScopeDataTypesPerSpecification() throws IOException {
+		// given
+		List<ServiceSpecification> accumulatingSpecifications = new MDSLModelCreator(getResourceCopyOfTestCML("context-is-upstream-in-multiple-relationships.cml").getContextMappingModel())
+				.createServiceSpecifications();
+		MDSLModelCreator mdslCreator = new MDSLModelCreator(getResourceCopyOfTestCML("context-is-upstream-in-multiple-relationships.cml").getContextMappingModel());
+		mdslCreator.setDataTypesPerSpecification(true);
+
+		// when
+		List<ServiceSpecification> serviceSpecifications = mdslCreator.createServiceSpecifications();
+
+		// then
+		assertEquals(accumulatingSpecifications.size(), serviceSpecifications.size());
+		assertEquals(getDataTypeNames(accumulatingSpecifications.get(0)), getDataTypeNames(serviceSpecifications.get(0)));
+		for (int i = 1; i < serviceSpecifications.size(); i++)
+			assertTrue(getDataTypeNames(accumulatingSpecifications.get(i)).containsAll(getDataTypeNames(serviceSpecifications.get(i))));
+	}
+
+	private List<String> getDataTypeNames(ServiceSpecification specification) {
+		return specification.getDataTypes().stream().map(DataType::getName).collect(Collectors.toList());
+	}
+
 	@Test
 	void canCreateMDSLModel() throws IOException {
 		// given
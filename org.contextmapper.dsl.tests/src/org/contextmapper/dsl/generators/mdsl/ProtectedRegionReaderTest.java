@@ -17,14 +17,17 @@ package org.contextmapper.dsl.generators.mdsl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionIdentifier;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionReader;
 import org.junit.jupiter.api.Test;
@@ -143,4 +146,51 @@ public class ProtectedRegionReaderTest {
 		assertTrue(identifiers.contains("ContractManagementContextClient"));
 	}
 
+	@Test
+	void canReadAllProtectedRegionsInOnePass() throws IOException {
+		// given
+		File expectedResultFile = new File(Paths.get("").toAbsolutePath().toString(),
+				"/integ-test-files/mdsl/protected-region-identifier-test.mdsl");
+		String mdslInputFile = FileUtils.readFileToString(expectedResultFile);
+
+		// when
+		ProtectedRegionReader reader = new ProtectedRegionReader();
+		Map<ProtectedRegionIdentifier, String> protectedRegions = reader.getProtectedRegionContents(mdslInputFile);
+
+		// then
+		assertEquals(4, protectedRegions.size());
+		assertEquals("data type Address P\ndata type Parameter1Type P", protectedRegions.get(ProtectedRegionIdentifier.DATA_TYPE_REGION));
+		assertEquals("endpoint type Customers\n\texposes\n\t\toperation updateAddress\n\t\t\texpecting\n\t\t\t\tpayload Address\n\t\t\tdelivering\n\t\t\t\tpayload ReturnType\n"
+				+ "\t\toperation anotherMethod\n\t\t\texpecting\n\t\t\t\tpayload anotherMethodParameter", protectedRegions.get(ProtectedRegionIdentifier.ENDPOINT_REGION));
+		assertEquals("API provider CustomerManagementContextProvider\n\toffers Customers\n\tat endpoint location \"http://localhost:8000\"\n\t\tvia protocol \"RESTful HTTP\"",
+				protectedRegions.get(ProtectedRegionIdentifier.PROVIDER_REGION));
+		assertEquals("API client ContractManagementContextClient\n\tconsumes Customers", protectedRegions.get(ProtectedRegionIdentifier.CLIENT_REGION));
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values())
+			assertEquals(reader.getProtectedRegionContent(mdslInputFile, regionIdentifier), protectedRegions.get(regionIdentifier));
+	}
+
+	@Test
+	void canReadProtectedRegionIfOtherRegionIsUnclosed() {
+		// given
+		String mdslInputFile = "// ** BEGIN PROTECTED REGION for data types" + System.lineSeparator() + "data type Address P" + System.lineSeparator()
+				+ "// ** END PROTECTED REGION for data types" + System.lineSeparator() + "// ** BEGIN PROTECTED REGION for API clients" + System.lineSeparator();
+
+		// when
+		String protectedRegion = new ProtectedRegionReader().getProtectedRegionContent(mdslInputFile, ProtectedRegionIdentifier.DATA_TYPE_REGION);
+
+		// then
+		assertEquals("data type Address P", protectedRegion);
+	}
+
+	@Test
+	void cannotReadUnclosedProtectedRegion() {
+		// given
+		String mdslInputFile = "// ** BEGIN PROTECTED REGION for data types" + System.lineSeparator() + "data type Address P" + System.lineSeparator();
+
+		// when, then
+		assertThrows(GeneratorInputException.class, () -> {
+			new ProtectedRegionReader().getProtectedRegionContents(mdslInputFile);
+		});
+	}
+
 }
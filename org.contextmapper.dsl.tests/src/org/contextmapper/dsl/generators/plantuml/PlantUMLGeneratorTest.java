@@ -15,11 +15,13 @@
  */
 package org.contextmapper.dsl.generators.plantuml;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -37,6 +39,8 @@ import org.contextmapper.tactic.dsl.tacticdsl.Entity;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 
@@ -193,6 +197,32 @@ class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_UseCase_Get_paid_for_car_accident_Interactions.puml"));
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "use-case-diagram-generation-test-1.cml", "state-diagram-generation-flow-test.cml", "state-diagram-generation-aggregate-test-1.cml",
+			"class-diagram-generation-module-test-1.cml" })
+	void parallelModeCreatesSameFilesAsSequentialMode(String inputFile) throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML(inputFile).getContextMappingModel();
+		IFileSystemAccess2Mock sequentialFilesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), sequentialFilesystem, new IGeneratorContextMock());
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		// when
+		IFileSystemAccess2Mock parallelFilesystem = new IFileSystemAccess2Mock();
+		try {
+			PlantUMLGenerator parallelGenerator = new PlantUMLGenerator();
+			parallelGenerator.setForkJoinPool(pool);
+			parallelGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), parallelFilesystem, new IGeneratorContextMock());
+		} finally {
+			pool.shutdown();
+		}
+
+		// then
+		assertEquals(sequentialFilesystem.getGeneratedFilesSet(), parallelFilesystem.getGeneratedFilesSet());
+		for (String file : sequentialFilesystem.getGeneratedFilesSet())
+			assertEquals(sequentialFilesystem.readTextFile(file), parallelFilesystem.readTextFile(file));
+	}
+
 	@Test
 	void expectExceptionForEmptyResource() {
 		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
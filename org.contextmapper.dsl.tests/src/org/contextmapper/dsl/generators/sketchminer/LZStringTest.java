@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.sketchminer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.contextmapper.dsl.generator.sketchminer.LZString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class LZStringTest {
+
+	@Test
+	public void canCompressEmptyInput() {
+		assertEquals("", LZString.compressToEncodedURIComponent(null));
+		assertEquals(LZStringReference.compressToEncodedURIComponent(""), LZString.compressToEncodedURIComponent(""));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 3, 95, 512, 65536 })
+	public void compressesLikeReferenceImplementation(int alphabetSize) {
+		// given
+		Random random = new Random(alphabetSize);
+
+		for (int i = 0; i < 500; i++) {
+			String input = createRandomInput(random, random.nextInt(i % 50 == 0 ? 10000 : 300), alphabetSize);
+
+			// when
+			String compressed = LZString.compressToEncodedURIComponent(input);
+
+			// then
+			assertEquals(LZStringReference.compressToEncodedURIComponent(input), compressed, "input " + i);
+		}
+	}
+
+	private String createRandomInput(Random random, int length, int alphabetSize) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			// alphabets up to 95 characters are printable, larger ones contain 16-bit characters
+			sb.append(alphabetSize <= 95 ? (char) (' ' + random.nextInt(alphabetSize)) : (char) random.nextInt(alphabetSize));
+		}
+		return sb.toString();
+	}
+
+}
@@ -18,6 +18,7 @@ package org.contextmapper.dsl.generators.sketchminer.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.sketchminer.model.Task;
@@ -25,6 +26,8 @@ import org.contextmapper.dsl.generator.sketchminer.model.TaskSequence;
 import org.contextmapper.dsl.generator.sketchminer.model.TaskType;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.Lists;
+
 public class TaskSequenceTest {
 
 	@Test
@@ -80,4 +83,62 @@ public class TaskSequenceTest {
 		assertFalse(seq1 == seq2);
 	}
 
+	@Test
+	public void canCheckWhetherSequenceContainsTask() {
+		// given
+		Task task1 = new Task("Task1", TaskType.COMMAND);
+		Task task2 = new Task("Task2", TaskType.COMMAND);
+		Task parallelTask = new Task("Task2", TaskType.COMMAND, Lists.newArrayList(new Task("Task3", TaskType.COMMAND)));
+		TaskSequence seq = new TaskSequence(task1);
+
+		// when
+		seq.addTask(parallelTask);
+
+		// then
+		assertTrue(seq.containsTask(task1));
+		assertTrue(seq.containsTask(new Task("Task3", TaskType.COMMAND, Lists.newArrayList(task2))));
+		assertFalse(seq.containsTask(task2));
+	}
+
+	@Test
+	public void addsTaskAtMostTwice() {
+		// given
+		Task task1 = new Task("Task1", TaskType.COMMAND);
+		Task task2 = new Task("Task2", TaskType.COMMAND);
+		TaskSequence seq = new TaskSequence(task1);
+
+		// when
+		boolean addedSecondTime = seq.addTask(task1);
+		seq.addTask(task2);
+		boolean addedThirdTime = seq.addTask(task1);
+
+		// then
+		assertTrue(addedSecondTime);
+		assertFalse(addedThirdTime);
+		assertEquals(3, seq.getTasks().size());
+	}
+
+	@Test
+	public void canCompareSequences() {
+		// given
+		Task task1 = new Task("Task1", TaskType.COMMAND);
+		Task task2 = new Task("Task2", TaskType.COMMAND);
+		TaskSequence seq1 = new TaskSequence(task1);
+		seq1.addTask(task2);
+		TaskSequence seq2 = new TaskSequence(new Task("Task1", TaskType.EVENT));
+		seq2.addTask(new Task("Task2", TaskType.EVENT));
+		TaskSequence seq3 = new TaskSequence(task2);
+		seq3.addTask(task1);
+
+		// when
+		TaskSequence copy = seq1.copy();
+		copy.addTask(task1);
+
+		// then
+		assertTrue(seq1.isEqualToOtherSequence(seq2));
+		assertEquals(seq1.getTasksHashCode(), seq2.getTasksHashCode());
+		assertFalse(seq1.isEqualToOtherSequence(seq3));
+		assertFalse(seq1.isEqualToOtherSequence(copy));
+	}
+
 }
@@ -1,13 +1,16 @@
 package org.contextmapper.dsl.refactoring;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -270,4 +273,46 @@ public class MergeAggregatesTest extends AbstractRefactoringTest {
 		assertEquals(1, rel.getUpstreamExposedAggregates().size());
 	}
 
+	@Test
+	void canPersistChangedBoundedContextOnly() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-aggregates-test-8-input.cml");
+
+		// when
+		MergeAggregatesRefactoring ar = new MergeAggregatesRefactoring("Customers", "Addresses");
+		ar.refactor(input);
+		ar.persistChangedElements(serializer);
+		String persistedText = FileUtils.readFileToString(new File(input.getURI().toFileString()), "UTF-8");
+		CMLResource persistedResource = reloadResource(input);
+
+		// then
+		assertTrue(persistedText.contains("/* this context is not changed by the refactoring */"));
+		assertTrue(persistedText.contains("Entity   Policy {  String policyNr  }"));
+		BoundedContext bc = persistedResource.getContextMappingModel().getBoundedContexts().get(0);
+		assertEquals(1, bc.getAggregates().size());
+		assertEquals(2, bc.getAggregates().get(0).getDomainObjects().size());
+		assertEquals(2, persistedResource.getContextMappingModel().getBoundedContexts().size());
+	}
+
+	@Test
+	void canPersistAndReloadChangedExposedAggregates() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-aggregates-test-9-input.cml");
+
+		// when
+		MergeAggregatesRefactoring ar = new MergeAggregatesRefactoring("Customers", "Addresses");
+		ar.refactor(input);
+		ar.persistChangedElements(serializer);
+		String persistedText = FileUtils.readFileToString(new File(input.getURI().toFileString()), "UTF-8");
+		CMLResource persistedResource = reloadResource(input);
+
+		// then
+		assertTrue(persistedText.matches("(?s).*exposedAggregates\\s*=\\s*Customers\\s.*"));
+		assertFalse(persistedText.contains("Addresses"));
+		UpstreamDownstreamRelationship rel = (UpstreamDownstreamRelationship) persistedResource.getContextMappingModel().getMap().getRelationships().get(0);
+		assertEquals(1, rel.getUpstreamExposedAggregates().size());
+		assertEquals("Customers", rel.getUpstreamExposedAggregates().get(0).getName());
+		assertFalse(rel.getUpstreamExposedAggregates().get(0).eIsProxy());
+	}
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
+import org.junit.jupiter.api.Test;
+
+public class RefactoringModelIndexTest extends AbstractRefactoringTest {
+
+	@Test
+	public void canFindElementsByName() throws IOException {
+		// given
+		ContextMappingModel model = getResourceCopyOfTestCML("refactoring-model-index-test-1.cml").getContextMappingModel();
+		RefactoringModelIndex index = new RefactoringModelIndex();
+
+		// when
+		index.index(model);
+
+		// then
+		assertSame(model.getBoundedContexts().get(0), index.getBoundedContexts("CustomerManagement").get(0));
+		assertEquals(1, index.getAggregates("Policies").size());
+		assertEquals(1, index.getDomainObjects("Address").size());
+		assertEquals("firstName", index.getAttributes("Customer", "firstName").get(0).getName());
+		assertEquals("address", index.getReferences("Customer", "address").get(0).getName());
+		assertTrue(index.getAttributes("Policy", "firstName").isEmpty());
+		assertTrue(index.isIndexed(model.getMap()));
+	}
+
+	@Test
+	public void updatesIndexWhenModelChanges() throws IOException {
+		// given
+		ContextMappingModel model = getResourceCopyOfTestCML("refactoring-model-index-test-1.cml").getContextMappingModel();
+		RefactoringModelIndex index = new RefactoringModelIndex();
+		index.index(model);
+		BoundedContext customerManagement = model.getBoundedContexts().get(0);
+		BoundedContext printing = model.getBoundedContexts().get(2);
+		DomainObject customer = customerManagement.getAggregates().get(0).getDomainObjects().get(0);
+
+		// when
+		customer.setName("Client");
+		customerManagement.setName("ClientManagement");
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("Documents");
+		printing.getAggregates().add(aggregate);
+
+		// then
+		assertTrue(index.getAttributes("Customer", "firstName").isEmpty());
+		assertEquals(1, index.getAttributes("Client", "firstName").size());
+		assertTrue(index.getBoundedContexts("CustomerManagement").isEmpty());
+		assertSame(customerManagement, index.getBoundedContexts("ClientManagement").get(0));
+		assertSame(aggregate, index.getAggregates("Documents").get(0));
+	}
+
+	@Test
+	public void stopsUpdatingAfterDispose() throws IOException {
+		// given
+		ContextMappingModel model = getResourceCopyOfTestCML("refactoring-model-index-test-1.cml").getContextMappingModel();
+		RefactoringModelIndex index = new RefactoringModelIndex();
+		index.index(model);
+
+		// when
+		index.dispose();
+		model.getBoundedContexts().get(1).setName("Contracts");
+
+		// then
+		assertEquals(1, index.getBoundedContexts("PolicyManagement").size());
+		assertTrue(index.getBoundedContexts("Contracts").isEmpty());
+	}
+
+}
@@ -41,6 +41,7 @@ import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 import org.contextmapper.dsl.contextMappingDSL.UpstreamRole;
 import org.contextmapper.dsl.refactoring.SplitSystemIntoSubsystems.SplitBoundedContextRelationshipType;
 import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+import org.eclipse.emf.common.util.URI;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -332,6 +333,30 @@ public class SplitSystemIntoSubsystemsTest extends AbstractRefactoringTest {
 		assertEquals("TestBackendLogic", symRel2.getParticipant2().getName());
 	}
 
+	@Test
+	public void canPersistReferencesToRenamedContextInUnchangedElements() throws IOException {
+		// given
+		getResourceSetOfTestCMLFiles("split-system-tier-test-9-input-2.cml");
+		CMLResource input = getResourceCopyOfTestCML("split-system-tier-test-9-input-1.cml");
+		SplitSystemIntoSubsystems ar = new SplitSystemIntoSubsystems("TestBackend", "TestBackendLogic", "TestBackendDatabase");
+
+		// when
+		ar.refactor(input);
+		ar.persistChangedElements(serializer);
+		File importedFile = new File(testDir, "split-system-tier-test-9-input-2.cml");
+		String importedText = FileUtils.readFileToString(importedFile, "UTF-8");
+		ContextMappingModel importedModel = reloadResource(new CMLResource(resourceSet.getResource(URI.createFileURI(importedFile.getAbsolutePath()), false)))
+				.getContextMappingModel();
+
+		// then
+		assertTrue(importedText.contains("/* this context is not changed by the refactoring */"));
+		assertFalse(importedText.matches("(?s).*\\bTestBackend\\b.*"));
+		assertTrue(getBoundedContextNames(importedModel.getMap().getBoundedContexts()).contains("TestBackendLogic"));
+		UpstreamDownstreamRelationship relationship = (UpstreamDownstreamRelationship) importedModel.getMap().getRelationships().get(0);
+		assertEquals("TestBackendLogic", relationship.getUpstream().getName());
+		assertEquals("TestFrontend", relationship.getDownstream().getName());
+	}
+
 	private Set<String> getBoundedContextNames(List<BoundedContext> contexts) {
 		return contexts.stream().map(bc -> bc.getName()).collect(Collectors.toSet());
 	}
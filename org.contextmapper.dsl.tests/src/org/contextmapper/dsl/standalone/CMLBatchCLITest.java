@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+public class CMLBatchCLITest {
+
+	@Test
+	public void canCollectCMLFilesInDirectory() {
+		// when
+		List<String> files = names(CMLBatchCLI.collectCMLFiles("./integ-test-files/standalone"));
+
+		// then
+		assertTrue(files.contains("hello-world.cml"));
+		assertTrue(files.contains("simple-context-map.cml"));
+		assertTrue(files.stream().allMatch(f -> f.endsWith(".cml")));
+	}
+
+	@Test
+	public void canCollectCMLFilesByGlobPattern() {
+		// when
+		List<String> files = names(CMLBatchCLI.collectCMLFiles("integ-test-files/standalone/*-world.cml"));
+
+		// then
+		assertEquals(1, files.size());
+		assertEquals("hello-world.cml", files.get(0));
+	}
+
+	@Test
+	public void canCollectSingleFile() {
+		// when
+		List<String> files = names(CMLBatchCLI.collectCMLFiles("./integ-test-files/standalone/hello-world.cml"));
+
+		// then
+		assertEquals(1, files.size());
+	}
+
+	@Test
+	public void canRunBatch() {
+		// given
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// when
+		int status = new CMLBatchCLI(new PrintStream(output)).run(new String[] { "integ-test-files/standalone/*-world.cml", "--threads", "2" });
+
+		// then
+		assertEquals(0, status);
+		assertTrue(output.toString().contains("Processed 1 CML files (0 with errors)"));
+	}
+
+	@Test
+	public void generatesSameMDSLForFilesImportingSharedCommand() throws IOException {
+		// given
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		File outputDir = new File("./out/batch-shared-command");
+		FileUtils.deleteDirectory(outputDir);
+
+		// when
+		int status = new CMLBatchCLI(new PrintStream(output))
+				.run(new String[] { "integ-test-files/standalone/shared-command/*-map.cml", "--generators", "mdsl", "--output", outputDir.getPath(), "--threads", "2" });
+
+		// then
+		assertEquals(0, status);
+		for (String mapFile : Arrays.asList("claims-map", "policies-map")) {
+			String mdsl = FileUtils.readFileToString(new File(outputDir, mapFile + "_CustomerManagementContextAPI.mdsl"), StandardCharsets.UTF_8);
+			assertTrue(mdsl.contains("command type CreateCustomerCommand"));
+			assertTrue(mdsl.contains("operation CreateCustomer"));
+			assertFalse(mdsl.contains("operation CreateCustomerCommand"));
+			assertFalse(mdsl.contains("CreateCustomerCommandCommand"));
+		}
+	}
+
+	@Test
+	public void rejectsUnknownGenerator() {
+		// given
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// when
+		int status = new CMLBatchCLI(new PrintStream(output)).run(new String[] { "./integ-test-files/standalone", "--generators", "unknown" });
+
+		// then
+		assertEquals(2, status);
+		assertTrue(output.toString().contains("Unknown generator: unknown"));
+	}
+
+	private List<String> names(List<File> files) {
+		return files.stream().map(File::getName).collect(Collectors.toList());
+	}
+
+}
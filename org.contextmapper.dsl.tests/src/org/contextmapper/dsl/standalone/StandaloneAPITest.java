@@ -16,22 +16,33 @@
 package org.contextmapper.dsl.standalone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
+import org.contextmapper.dsl.refactoring.AbstractRefactoring;
+import org.contextmapper.dsl.refactoring.MergeBoundedContextsRefactoring;
+import org.contextmapper.dsl.refactoring.RefactoringTransaction;
 import org.contextmapper.dsl.refactoring.SplitBoundedContextByOwner;
+import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.validation.Issue;
 import org.junit.jupiter.api.Test;
 
 public class StandaloneAPITest {
@@ -157,6 +168,137 @@ public class StandaloneAPITest {
 		assertNotNull(model.getBoundedContexts().stream().filter(bc -> bc.getName().equals("NewBoundedContext1")).findFirst().get());
 	}
 
+	@Test
+	public void canApplyRefactoringsInOneTransaction() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-transaction-test.cml");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+
+		// when
+		contextMapper.applyRefactorings(cml,
+				Arrays.asList(new SplitBoundedContextByOwner("PolicyManagementContext"), new MergeBoundedContextsRefactoring("CustomerManagementContext", "CustomerSelfServiceContext")));
+
+		// then
+		ContextMappingModel model = contextMapper.loadCML(cmlTestFile).getContextMappingModel();
+		assertEquals(9, model.getBoundedContexts().size());
+		assertTrue(model.getBoundedContexts().stream().anyMatch(bc -> bc.getName().equals("NewBoundedContext1")));
+		assertTrue(model.getBoundedContexts().stream().noneMatch(bc -> bc.getName().equals("CustomerSelfServiceContext")));
+	}
+
+	@Test
+	public void canRollbackRefactoringTransaction() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-transaction-test.cml");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+		RefactoringTransaction transaction = contextMapper.beginRefactoringTransaction(cml);
+		transaction.apply(new MergeBoundedContextsRefactoring("CustomerManagementContext", "CustomerSelfServiceContext"));
+
+		// when
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			transaction.apply(new AbstractRefactoring() {
+				@Override
+				protected void doRefactor() {
+					model.getBoundedContexts().clear();
+					throw new ContextMapperApplicationException("Refactoring failed.");
+				}
+			});
+		});
+
+		// then
+		assertFalse(transaction.isActive());
+		assertEquals(9, cml.getContextMappingModel().getBoundedContexts().size());
+		assertTrue(cml.getContextMappingModel().getBoundedContexts().stream().anyMatch(bc -> bc.getName().equals("CustomerSelfServiceContext")));
+		assertEquals(FileUtils.readFileToString(originalFile, Charset.defaultCharset()), FileUtils.readFileToString(cmlTestFile, Charset.defaultCharset()));
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			transaction.commit();
+		});
+	}
+
+	@Test
+	public void canRollbackTransactionAfterCommittedTransaction() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-transaction-test.cml");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+		RefactoringTransaction firstTransaction = contextMapper.beginRefactoringTransaction(cml);
+		firstTransaction.apply(new MergeBoundedContextsRefactoring("CustomerManagementContext", "CustomerSelfServiceContext"));
+		firstTransaction.commit();
+		String committedText = FileUtils.readFileToString(cmlTestFile, Charset.defaultCharset());
+
+		// when
+		RefactoringTransaction secondTransaction = contextMapper.beginRefactoringTransaction(cml);
+		secondTransaction.apply(new SplitBoundedContextByOwner("PolicyManagementContext"));
+		secondTransaction.rollback();
+
+		// then
+		assertEquals(8, cml.getContextMappingModel().getBoundedContexts().size());
+		assertTrue(cml.getContextMappingModel().getBoundedContexts().stream().noneMatch(bc -> bc.getName().equals("CustomerSelfServiceContext")));
+		assertTrue(cml.getContextMappingModel().getBoundedContexts().stream().noneMatch(bc -> bc.getName().equals("NewBoundedContext1")));
+		assertEquals(committedText, FileUtils.readFileToString(cmlTestFile, Charset.defaultCharset()));
+		assertFalse(cml.getXtextResource().isModified());
+	}
+
+	@Test
+	public void canValidateCMLResource() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML("./integ-test-files/standalone/simple-context-map.cml");
+
+		// when
+		List<Issue> issues = contextMapper.validate(cml);
+
+		// then
+		assertTrue(issues.stream().noneMatch(i -> i.getSeverity() == Severity.ERROR));
+	}
+
+	@Test
+	public void canProcessBatch() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		List<File> cmlFiles = Arrays.asList(new File("./integ-test-files/standalone/hello-world.cml"), new File("./integ-test-files/standalone/simple-context-map.cml"));
+		File expectedOutput = new File("./out/batch/simple-context-map_ContextMap.png");
+		ensureFileDoesNotExist(expectedOutput);
+
+		// when
+		CMLBatchResult result = contextMapper.processBatch(cmlFiles, "./out/batch", Arrays.asList(() -> {
+			ContextMapGenerator generator = new ContextMapGenerator();
+			generator.setContextMapFormats(ContextMapFormat.PNG);
+			return generator;
+		}));
+
+		// then
+		assertFalse(result.hasErrors());
+		assertEquals(2, result.getFileResults().size());
+		assertEquals(cmlFiles.get(0), result.getFileResults().get(0).getFile());
+		assertTrue(expectedOutput.exists());
+	}
+
+	@Test
+	public void batchReportsFilesWhichCannotBeLoaded() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		List<File> cmlFiles = Arrays.asList(new File("./integ-test-files/standalone/does-not-exist.cml"), new File("./integ-test-files/standalone/hello-world.cml"));
+
+		// when
+		CMLBatchResult result = contextMapper.processBatch(cmlFiles, "./out/batch", Collections.emptyList());
+
+		// then
+		assertTrue(result.hasErrors());
+		assertNotNull(result.getFileResults().get(0).getError());
+		assertFalse(result.getFileResults().get(1).hasErrors());
+	}
+
 	private void ensureFileDoesNotExist(File file) {
 		if (file.exists())
 			file.delete();
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLBoundedContextClassDiagramCreator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StreamingJavaIoFileSystemAccessTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void canStreamFile() throws IOException {
+		// given
+		StreamingJavaIoFileSystemAccess fsa = (StreamingJavaIoFileSystemAccess) FileSystemHelper.getFileSystemAccess(tempDir.toString());
+
+		// when
+		fsa.generateFile("sub/test.txt", writer -> {
+			for (int i = 0; i < 3; i++)
+				writer.write("line " + i + "\n");
+		});
+
+		// then
+		assertEquals("line 0\nline 1\nline 2\n", FileUtils.readFileToString(new File(tempDir.toFile(), "sub/test.txt"), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void canReadExistingFileWhileStreaming() throws IOException {
+		// given
+		StreamingJavaIoFileSystemAccess fsa = (StreamingJavaIoFileSystemAccess) FileSystemHelper.getFileSystemAccess(tempDir.toString());
+		fsa.generateFile("test.txt", "old content");
+
+		// when
+		fsa.generateFile("test.txt", writer -> writer.write("new content, replaces '" + fsa.readTextFile("test.txt") + "'"));
+
+		// then
+		assertEquals("new content, replaces 'old content'", fsa.readTextFile("test.txt").toString());
+	}
+
+	@Test
+	public void keepsExistingFileIfGenerationFails() throws IOException {
+		// given
+		StreamingJavaIoFileSystemAccess fsa = (StreamingJavaIoFileSystemAccess) FileSystemHelper.getFileSystemAccess(tempDir.toString());
+		fsa.generateFile("test.txt", "old content");
+
+		// when
+		assertThrows(RuntimeException.class, () -> {
+			fsa.generateFile("test.txt", writer -> {
+				writer.write("new");
+				throw new RuntimeException("generation failed");
+			});
+		});
+
+		// then
+		assertEquals("old content", fsa.readTextFile("test.txt").toString());
+		assertEquals(1, tempDir.toFile().list().length);
+	}
+
+	@Test
+	public void streamedDiagramEqualsDiagramCreatedInMemory() throws IOException {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.createSyntheticCML(new SyntheticCMLModelGenerator(), new File(tempDir.toFile(), "model"));
+		BoundedContext boundedContext = cml.getContextMappingModel().getMap().getBoundedContexts().get(0);
+		StringWriter writer = new StringWriter();
+
+		// when
+		new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext, writer);
+
+		// then
+		assertEquals(new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext), writer.toString());
+	}
+
+	@Test
+	public void generatorsStreamIntoFileSystemAccess() throws IOException {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.createSyntheticCML(new SyntheticCMLModelGenerator(), new File(tempDir.toFile(), "model"));
+
+		// when
+		contextMapper.callGenerator(cml, new PlantUMLGenerator(), new File(tempDir.toFile(), "src-gen").getAbsolutePath());
+
+		// then
+		File diagram = new File(tempDir.toFile(), "src-gen/main_BC_Context0.puml");
+		assertTrue(diagram.exists());
+		assertTrue(FileUtils.readFileToString(diagram, StandardCharsets.UTF_8).contains("@enduml"));
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.SharedKernel;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SyntheticCMLModelGeneratorTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void canCreateModelInResourceSet() {
+		// given
+		ContextMapperStandaloneSetup.getStandaloneAPI();
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator();
+		generator.setBoundedContexts(6);
+		generator.setAggregatesPerContext(2);
+		generator.setEntitiesPerAggregate(4);
+		generator.setRelationshipsPerContext(3);
+		generator.setImportedFiles(2);
+
+		// when
+		List<Resource> resources = generator.createResources(new ResourceSetImpl(), URI.createFileURI("/tmp/synthetic/main.cml"));
+
+		// then
+		assertEquals(3, resources.size());
+		ContextMappingModel mainModel = (ContextMappingModel) resources.get(0).getContents().get(0);
+		assertEquals(2, mainModel.getImports().size());
+		assertEquals(6, mainModel.getMap().getBoundedContexts().size());
+		assertEquals(18, mainModel.getMap().getRelationships().size());
+		ContextMappingModel importedModel = (ContextMappingModel) resources.get(1).getContents().get(0);
+		assertEquals(3, importedModel.getBoundedContexts().size());
+		assertEquals(4, importedModel.getBoundedContexts().get(0).getAggregates().get(0).getDomainObjects().size());
+	}
+
+	@Test
+	public void canSerializeModel() {
+		// given
+		ContextMapperStandaloneSetup.getStandaloneAPI();
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator();
+		generator.setBoundedContexts(3);
+		generator.setUseCasesPerAggregate(1);
+		generator.setFlowsPerContext(1);
+		generator.setImportedFiles(1);
+
+		// when
+		Map<String, String> files = generator.createFiles();
+
+		// then
+		assertEquals(2, files.size());
+		assertTrue(files.get(SyntheticCMLModelGenerator.MAIN_FILE).contains("import \"./contexts0.cml\""));
+		assertTrue(files.get(SyntheticCMLModelGenerator.MAIN_FILE).contains("ContextMap SyntheticMap"));
+		assertTrue(files.get("contexts0.cml").contains("BoundedContext Context2"));
+		assertTrue(files.get("contexts0.cml").contains("UseCase UseCase0_0_0"));
+		assertTrue(files.get("contexts0.cml").contains("Flow Flow0_0"));
+	}
+
+	@Test
+	public void createsValidModel() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator();
+		generator.setBoundedContexts(5);
+		generator.setUseCasesPerAggregate(2);
+		generator.setFeaturesPerUseCase(2);
+		generator.setFlowsPerContext(2);
+		generator.setStepsPerFlow(3);
+		generator.setImportedFiles(2);
+
+		// when
+		CMLResource cml = contextMapper.createSyntheticCML(generator, tempDir.toFile());
+		List<Issue> errors = contextMapper.validate(cml).stream().filter(issue -> issue.getSeverity() == Severity.ERROR).collect(Collectors.toList());
+
+		// then
+		assertTrue(errors.isEmpty(), errors.toString());
+		assertEquals(5, cml.getContextMappingModel().getMap().getBoundedContexts().size());
+		assertEquals(10, cml.getContextMappingModel().getMap().getRelationships().size());
+		assertEquals("Context0", ((UpstreamDownstreamRelationship) cml.getContextMappingModel().getMap().getRelationships().get(0)).getUpstream().getName());
+	}
+
+	@Test
+	public void canCreateSharedKernels() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator();
+		generator.setBoundedContexts(4);
+		generator.setRelationshipsPerContext(1);
+		generator.setSharedKernels(2);
+		generator.setImportedFiles(1);
+
+		// when
+		CMLResource cml = contextMapper.createSyntheticCML(generator, tempDir.toFile());
+		List<Issue> errors = contextMapper.validate(cml).stream().filter(issue -> issue.getSeverity() == Severity.ERROR).collect(Collectors.toList());
+
+		// then
+		assertTrue(errors.isEmpty(), errors.toString());
+		assertEquals(6, cml.getContextMappingModel().getMap().getRelationships().size());
+		SharedKernel sharedKernel = (SharedKernel) cml.getContextMappingModel().getMap().getRelationships().get(4);
+		assertEquals("Context0", sharedKernel.getParticipant1().getName());
+		assertEquals("Context1", sharedKernel.getParticipant2().getName());
+	}
+
+	@Test
+	public void rejectsTooManyRelationships() {
+		// given
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator();
+		generator.setBoundedContexts(2);
+		generator.setRelationshipsPerContext(2);
+
+		// when, then
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			generator.createFiles();
+		});
+	}
+
+}
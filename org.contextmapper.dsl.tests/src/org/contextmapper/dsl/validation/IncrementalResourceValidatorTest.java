@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.util.StringInputStream;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Sets;
+import com.google.inject.Injector;
+
+public class IncrementalResourceValidatorTest {
+
+	private static final String CONTEXT_MAP = "ContextMap TestMap {\n" + "  contains CustomerContext, ContractContext\n" + "  CustomerContext [U]->[D] ContractContext\n" + "}\n";
+	private static final String CUSTOMER_CONTEXT = "BoundedContext CustomerContext {\n" + "  domainVisionStatement = \"Customers\"\n" + "}\n";
+	private static final String CONTRACT_CONTEXT = "BoundedContext ContractContext\n";
+	private static final String DUPLICATE_CONTEXT = "BoundedContext DuplicateContext\n";
+	private static final String INDEPENDENT_CONTEXT = "BoundedContext IndependentContext {\n" + "  domainVisionStatement = \"Independent\"\n" + "}\n";
+
+	private Injector injector;
+	private UnitCountingValidator incrementalValidator;
+	private IResourceValidator fullValidator;
+
+	@BeforeEach
+	public void prepare() {
+		injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		incrementalValidator = injector.getInstance(UnitCountingValidator.class);
+		fullValidator = injector.getInstance(IResourceValidator.class);
+	}
+
+	@Test
+	public void producesSameIssuesAsFullValidationAfterChange() throws IOException {
+		// given
+		XtextResource resource = createResource(CONTEXT_MAP + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + DUPLICATE_CONTEXT + DUPLICATE_CONTEXT);
+		assertEquals(format(fullValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl)), format(validateIncrementally(resource)));
+
+		// when
+		resource.reparse(CONTEXT_MAP + INDEPENDENT_CONTEXT + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + DUPLICATE_CONTEXT + DUPLICATE_CONTEXT);
+		List<Issue> incrementalIssues = validateIncrementally(resource);
+
+		// then
+		List<String> expectedIssues = format(fullValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl));
+		assertFalse(expectedIssues.isEmpty());
+		assertEquals(expectedIssues, format(incrementalIssues));
+	}
+
+	@Test
+	public void revalidatesOnlyAffectedElements() throws IOException {
+		// given
+		XtextResource resource = createResource(CONTEXT_MAP + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + INDEPENDENT_CONTEXT);
+		validateIncrementally(resource);
+		assertEquals(4, incrementalValidator.validatedUnits);
+
+		// when
+		incrementalValidator.validatedUnits = 0;
+		resource.reparse(CONTEXT_MAP + CUSTOMER_CONTEXT.replace("Customers", "Changed") + CONTRACT_CONTEXT + INDEPENDENT_CONTEXT);
+		validateIncrementally(resource);
+
+		// then
+		// the changed context and the map referencing it
+		assertEquals(2, incrementalValidator.validatedUnits);
+	}
+
+	@Test
+	public void revalidatesNothingIfNothingChanged() throws IOException {
+		// given
+		XtextResource resource = createResource(CONTEXT_MAP + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + INDEPENDENT_CONTEXT);
+		validateIncrementally(resource);
+
+		// when
+		incrementalValidator.validatedUnits = 0;
+		validateIncrementally(resource);
+
+		// then
+		assertEquals(0, incrementalValidator.validatedUnits);
+	}
+
+	@Test
+	public void revalidatesEverythingIfNamesChange() throws IOException {
+		// given
+		XtextResource resource = createResource(CONTEXT_MAP + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + INDEPENDENT_CONTEXT);
+		validateIncrementally(resource);
+
+		// when
+		incrementalValidator.validatedUnits = 0;
+		resource.reparse(CONTEXT_MAP + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + INDEPENDENT_CONTEXT.replace("IndependentContext", "CustomerContext"));
+		List<Issue> issues = validateIncrementally(resource);
+
+		// then
+		assertEquals(4, incrementalValidator.validatedUnits);
+		assertEquals(format(fullValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl)), format(issues));
+	}
+
+	@Test
+	public void sharesNameIndexBetweenElements() throws IOException {
+		// given
+		XtextResource resource = createResource(CONTEXT_MAP + CUSTOMER_CONTEXT + CONTRACT_CONTEXT + INDEPENDENT_CONTEXT);
+
+		// when
+		validateIncrementally(resource);
+
+		// then
+		assertEquals(4, incrementalValidator.validatedUnits);
+		assertEquals(1, incrementalValidator.nameIndexes.size());
+		assertEquals(1, ((Map<?, ?>) incrementalValidator.nameIndexes.iterator().next()).size());
+	}
+
+	private List<Issue> validateIncrementally(XtextResource resource) {
+		return incrementalValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+	}
+
+	private XtextResource createResource(String cml) throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("incremental-validation-test.cml"));
+		resource.load(new StringInputStream(cml), null);
+		return resource;
+	}
+
+	private List<String> format(List<Issue> issues) {
+		return issues.stream().map(i -> String.join("|", i.getSeverity().toString(), i.getMessage(), String.valueOf(i.getUriToProblem()), String.valueOf(i.getOffset()),
+				String.valueOf(i.getLength()), String.valueOf(i.getLineNumber()), String.valueOf(i.getColumn()), String.valueOf(i.getLineNumberEnd()),
+				String.valueOf(i.getColumnEnd()))).collect(Collectors.toList());
+	}
+
+	public static class UnitCountingValidator extends IncrementalResourceValidator {
+
+		private int validatedUnits = 0;
+		private Set<Object> nameIndexes = Sets.newIdentityHashSet();
+
+		@Override
+		protected void validateUnit(EObject unit, Map<Object, Object> options, IAcceptor<Issue> acceptor) {
+			validatedUnits++;
+			nameIndexes.add(options.get(UniquenessValidator.NAME_INDEX_CONTEXT_KEY));
+			super.validateUnit(unit, options, acceptor);
+		}
+
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.util.StringInputStream;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Injector;
+
+public class ParallelResourceValidatorTest {
+
+	private Injector injector;
+	private ForkJoinPool pool;
+	private ParallelResourceValidator parallelValidator;
+	private IResourceValidator sequentialValidator;
+
+	@BeforeEach
+	public void prepare() {
+		injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		pool = new ForkJoinPool(4);
+		parallelValidator = injector.getInstance(ParallelResourceValidator.class);
+		parallelValidator.setForkJoinPool(pool);
+		sequentialValidator = injector.getInstance(IResourceValidator.class);
+	}
+
+	@AfterEach
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void producesSameIssuesAsSequentialValidation() throws IOException {
+		// given
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap TestMap {\n  contains Context0, Context1\n  Context0 [U]->[D] Context1\n}\n");
+		for (int i = 0; i < 50; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {\n");
+			cml.append("  Aggregate Aggregate").append(i).append(" {\n");
+			cml.append("    Entity Customer { aggregateRoot String customerId }\n");
+			cml.append("    Entity Customer\n");
+			cml.append("  }\n}\n");
+		}
+		cml.append("BoundedContext Context7\n");
+		cml.append("Domain Insurance { Subdomain Claims Subdomain Claims }\n");
+		XtextResource resource = createResource(cml.toString());
+
+		// when
+		List<String> parallelIssues = format(parallelValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl));
+
+		// then
+		List<String> sequentialIssues = format(sequentialValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl));
+		assertFalse(sequentialIssues.isEmpty());
+		assertEquals(sequentialIssues, parallelIssues);
+	}
+
+	@Test
+	public void canValidateEmptyModel() throws IOException {
+		// given
+		XtextResource resource = createResource("");
+
+		// when
+		List<Issue> issues = parallelValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+
+		// then
+		assertEquals(format(sequentialValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl)), format(issues));
+	}
+
+	@Test
+	public void attachesAllAdaptersBeforePartitionsAreValidated() throws IOException {
+		// given
+		AdapterCheckingValidator validator = injector.getInstance(AdapterCheckingValidator.class);
+		validator.setForkJoinPool(pool);
+		XtextResource resource = createResource("ContextMap TestMap {\n  contains Context0, Context1\n  Context0 [U]->[D] Context1\n}\n"
+				+ "BoundedContext Context0 { Aggregate Customers { Entity Customer { - Address address } Entity Address } }\n" + "BoundedContext Context1\n");
+
+		// when
+		validator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+
+		// then
+		assertFalse(validator.adaptersChanged);
+	}
+
+	private XtextResource createResource(String cml) throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("parallel-validation-test.cml"));
+		resource.load(new StringInputStream(cml), null);
+		return resource;
+	}
+
+	private List<String> format(List<Issue> issues) {
+		return issues.stream().map(i -> String.join("|", i.getSeverity().toString(), i.getMessage(), String.valueOf(i.getUriToProblem()), String.valueOf(i.getOffset()),
+				String.valueOf(i.getLength()))).collect(Collectors.toList());
+	}
+
+	public static class AdapterCheckingValidator extends ParallelResourceValidator {
+
+		private volatile boolean adaptersChanged = false;
+
+		@Override
+		protected void validateUnit(EObject unit, Map<Object, Object> options, IAcceptor<Issue> acceptor) {
+			List<Adapter> rootAdapters = Lists.newArrayList(unit.eContainer().eAdapters());
+			List<Adapter> unitAdapters = Lists.newArrayList(unit.eAdapters());
+			super.validateUnit(unit, options, acceptor);
+			if (!rootAdapters.equals(unit.eContainer().eAdapters()) || !unitAdapters.equals(unit.eAdapters()))
+				adaptersChanged = true;
+		}
+
+	}
+
+}
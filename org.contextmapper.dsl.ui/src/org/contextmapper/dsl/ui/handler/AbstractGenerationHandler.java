@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
 import org.contextmapper.dsl.ui.internal.DslActivator;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
@@ -84,7 +85,14 @@ public abstract class AbstractGenerationHandler extends AbstractHandler implemen
 				fsa.setProject(file.getProject());
 				fsa.setOutputPath(getGenFolder(file).toString());
 				fsa.setMonitor(new NullProgressMonitor());
-				runGeneration(resource, event, fsa);
+				if (IncrementalFileSystemAccess.isEnabledBySystemProperty()) {
+					// only changed artifacts are generated and written again
+					IncrementalFileSystemAccess incrementalFsa = new IncrementalFileSystemAccess(fsa);
+					runGeneration(resource, event, incrementalFsa);
+					incrementalFsa.saveManifest();
+				} else {
+					runGeneration(resource, event, fsa);
+				}
 			} catch (ContextMapperApplicationException e) {
 				MessageDialog.openInformation(HandlerUtil.getActiveShell(event), "Model Input", e.getMessage());
 			} catch (Exception e) {
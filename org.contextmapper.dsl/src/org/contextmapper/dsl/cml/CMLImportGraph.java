@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Resource set scoped cache of the CML import graph. The graph is attached to a
+ * resource set as EMF adapter and caches the directly imported resources per
+ * resource URI. An entry is invalidated as soon as an import of the
+ * corresponding model changes (notification), the resource gets reparsed (new
+ * root model or timestamp), or one of the imported resources gets unloaded or
+ * removed from the resource set. The entry of a resource is evicted when the
+ * resource itself gets unloaded or removed from the resource set.
+ *
+ * Transitive imports are computed on top of the cached direct imports and do
+ * therefore not cause any I/O once all involved resources are cached.
+ *
+ * @author agent
+ */
+public class CMLImportGraph extends AdapterImpl {
+
+	private final Map<URI, ImportGraphEntry> entries = new ConcurrentHashMap<>();
+
+	private CMLImportGraph() {
+	}
+
+	/**
+	 * Returns the import graph of the given resource set (creates and attaches it,
+	 * if it does not exist yet).
+	 */
+	public static synchronized CMLImportGraph getImportGraph(ResourceSet resourceSet) {
+		CMLImportGraph graph = (CMLImportGraph) EcoreUtil.getExistingAdapter(resourceSet, CMLImportGraph.class);
+		if (graph == null) {
+			graph = new CMLImportGraph();
+			resourceSet.eAdapters().add(graph);
+		}
+		return graph;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == CMLImportGraph.class;
+	}
+
+	/**
+	 * Returns the resources directly imported by the given resource.
+	 */
+	public Set<CMLResource> getImportedResources(CMLResource resource, Function<CMLResource, Set<CMLResource>> importResolver) {
+		// compute() is atomic per URI: concurrent lookups do not resolve the same
+		// imports twice
+		ImportGraphEntry entry = entries.compute(resource.getURI(), (uri, existingEntry) -> {
+			if (existingEntry != null && existingEntry.isValid(resource))
+				return existingEntry;
+			if (existingEntry != null)
+				existingEntry.dispose();
+			return new ImportGraphEntry(resource, importResolver.apply(resource));
+		});
+		return Collections.unmodifiableSet(entry.importedResources);
+	}
+
+	/**
+	 * Returns all resources imported by the given resource, including the resources
+	 * which are imported indirectly (transitive closure). The given resource itself
+	 * is not part of the result, even if there is an import cycle.
+	 */
+	public Set<CMLResource> getTransitivelyImportedResources(CMLResource resource, Function<CMLResource, Set<CMLResource>> importResolver) {
+		Set<CMLResource> result = Sets.newLinkedHashSet();
+		Set<URI> visited = Sets.newHashSet(resource.getURI());
+		Deque<CMLResource> queue = Lists.newLinkedList();
+		queue.add(resource);
+		while (!queue.isEmpty()) {
+			for (CMLResource importedResource : getImportedResources(queue.poll(), importResolver)) {
+				if (visited.add(importedResource.getURI())) {
+					result.add(importedResource);
+					queue.add(importedResource);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all cached entries (and the adapters attached to the models).
+	 */
+	public void clear() {
+		for (ImportGraphEntry entry : Lists.newArrayList(entries.values()))
+			entry.dispose();
+		entries.clear();
+	}
+
+	/**
+	 * Evicts the entries of resources which are removed from the resource set.
+	 */
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.isTouch() || notification.getFeatureID(ResourceSet.class) != ResourceSet.RESOURCE_SET__RESOURCES)
+			return;
+		if (notification.getEventType() == Notification.REMOVE) {
+			evict((Resource) notification.getOldValue());
+		} else if (notification.getEventType() == Notification.REMOVE_MANY) {
+			for (Object resource : (Collection<?>) notification.getOldValue())
+				evict((Resource) resource);
+		}
+	}
+
+	boolean isCached(URI uri) {
+		return entries.containsKey(uri);
+	}
+
+	private void evict(Resource resource) {
+		if (resource.getURI() == null)
+			return;
+		ImportGraphEntry entry = entries.remove(resource.getURI());
+		if (entry != null)
+			entry.dispose();
+	}
+
+	private void invalidate(ImportGraphEntry entry) {
+		entries.remove(entry.uri, entry);
+		entry.dispose();
+	}
+
+	private class ImportGraphEntry extends AdapterImpl {
+
+		private final URI uri;
+		private final long timeStamp;
+		private final ContextMappingModel rootModel;
+		private final Set<CMLResource> importedResources;
+		private final Map<Resource, Boolean> dependencies = Maps.newHashMap();
+		private final List<Notifier> observedObjects = Lists.newArrayList();
+
+		ImportGraphEntry(CMLResource resource, Set<CMLResource> importedResources) {
+			this.uri = resource.getURI();
+			this.timeStamp = resource.getTimeStamp();
+			this.rootModel = resource.getContextMappingModel();
+			this.importedResources = Sets.newLinkedHashSet(importedResources);
+			this.observedObjects.add(resource);
+			this.observedObjects.add(rootModel);
+			this.observedObjects.addAll(rootModel.getImports());
+			for (Notifier notifier : observedObjects)
+				notifier.eAdapters().add(this);
+			for (Import cmlImport : rootModel.getImports()) {
+				if (cmlImport.getImportURI() == null)
+					continue;
+				Resource importedResource = resource.getResourceSet().getResource(URI.createURI(cmlImport.getImportURI()).resolve(uri), false);
+				if (importedResource != null)
+					dependencies.put(importedResource, isCMLModel(importedResource));
+			}
+		}
+
+		boolean isValid(CMLResource resource) {
+			if (resource.getTimeStamp() != timeStamp || resource.getContents().isEmpty() || resource.getContents().get(0) != rootModel)
+				return false;
+			for (Map.Entry<Resource, Boolean> dependency : dependencies.entrySet()) {
+				Resource importedResource = dependency.getKey();
+				if (!importedResource.isLoaded() || importedResource.getResourceSet() != resource.getResourceSet() || isCMLModel(importedResource) != dependency.getValue())
+					return false;
+			}
+			return true;
+		}
+
+		private boolean isCMLModel(Resource resource) {
+			return !resource.getContents().isEmpty() && resource.getContents().get(0) instanceof ContextMappingModel;
+		}
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (notification.isTouch())
+				return;
+			if (notification.getNotifier() instanceof Resource) {
+				// the entry is evicted as soon as the resource gets unloaded
+				if (notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED && !notification.getNewBooleanValue())
+					invalidate(this);
+				return;
+			}
+			Object feature = notification.getFeature();
+			if (feature == ContextMappingDSLPackage.Literals.CONTEXT_MAPPING_MODEL__IMPORTS || feature == ContextMappingDSLPackage.Literals.IMPORT__IMPORT_URI)
+				invalidate(this);
+		}
+
+		void dispose() {
+			for (Notifier notifier : observedObjects)
+				notifier.eAdapters().remove(this);
+		}
+
+	}
+
+}
@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -28,12 +29,44 @@ import com.google.common.collect.Sets;
 /**
  * Resolves all imported resources for a root CML model.
  * 
+ * The imports are cached per resource set (see {@link CMLImportGraph}), so that
+ * repeated resolution does not reload or reparse the imported resources.
+ * 
  * @author Stefan Kapferer
  *
  */
 public class CMLImportResolver {
 
 	public Set<CMLResource> resolveImportedResources(CMLResource rootResource) {
+		ResourceSet rs = rootResource.getResourceSet();
+		if (rs == null)
+			return resolveImportsWithoutResourceSet(rootResource);
+		return Sets.newHashSet(CMLImportGraph.getImportGraph(rs).getImportedResources(rootResource, r -> resolveImportedResourcesUncached(r)));
+	}
+
+	/**
+	 * Resolves all resources imported by the given resource, including the ones
+	 * which are imported indirectly (imports of the imported resources).
+	 */
+	public Set<CMLResource> resolveTransitivelyImportedResources(CMLResource rootResource) {
+		ResourceSet rs = rootResource.getResourceSet();
+		if (rs == null)
+			return resolveImportsWithoutResourceSet(rootResource);
+		return Sets.newHashSet(CMLImportGraph.getImportGraph(rs).getTransitivelyImportedResources(rootResource, r -> resolveImportedResourcesUncached(r)));
+	}
+
+	/**
+	 * Imported resources can only be loaded into the resource set of the importing
+	 * resource.
+	 */
+	private Set<CMLResource> resolveImportsWithoutResourceSet(CMLResource rootResource) {
+		if (!rootResource.getContextMappingModel().getImports().isEmpty())
+			throw new ContextMapperApplicationException(
+					"The imports of the resource '" + rootResource.getURI() + "' cannot be resolved, because the resource is not part of a resource set.");
+		return Sets.newHashSet();
+	}
+
+	private Set<CMLResource> resolveImportedResourcesUncached(CMLResource rootResource) {
 		Set<CMLResource> importedResources = Sets.newHashSet();
 		Resource resource = rootResource;
 		ResourceSet rs = resource.getResourceSet();
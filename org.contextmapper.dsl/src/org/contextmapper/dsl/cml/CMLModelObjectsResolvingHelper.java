@@ -36,7 +36,6 @@ import org.contextmapper.tactic.dsl.tacticdsl.Enum;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -54,11 +53,16 @@ public class CMLModelObjectsResolvingHelper {
 		return importedResources.stream().map(r -> r.getContextMappingModel()).collect(Collectors.toSet());
 	}
 
+	/**
+	 * Resolves all objects of the given type in the root model and the imported
+	 * models. The lookups are answered by the (lazily built) type index of each
+	 * model, see {@link CMLTypeIndex}.
+	 */
 	public <T extends EObject> Set<T> resolveAllObjectsOfType(Class<T> type) {
 		Set<T> resultSet = Sets.newHashSet();
-		resultSet.addAll(Sets.newHashSet(IteratorExtensions.filter(EcoreUtil2.eAll(rootModel), type)));
+		resultSet.addAll(CMLTypeIndex.getIndex(rootModel).getObjectsOfType(type));
 		for (ContextMappingModel model : resolveImportedModels()) {
-			resultSet.addAll(Sets.newHashSet(IteratorExtensions.filter(EcoreUtil2.eAll(model), type)));
+			resultSet.addAll(CMLTypeIndex.getIndex(model).getObjectsOfType(type));
 		}
 		return resultSet;
 	}
@@ -112,7 +116,7 @@ public class CMLModelObjectsResolvingHelper {
 		aggregates.addAll(EcoreUtil2.eAllOfType(bc, Aggregate.class));
 		ContextMap contextMap = getContextMap(bc);
 		if (contextMap != null) {
-			for (Relationship rel : contextMap.getRelationships()) {
+			for (Relationship rel : CMLRelationshipIndex.getIndex(contextMap).getRelationships(bc.getName())) {
 				if (isBCDownstreamInRelationship(rel, bc))
 					aggregates.addAll(getExposedAggregates(rel));
 			}
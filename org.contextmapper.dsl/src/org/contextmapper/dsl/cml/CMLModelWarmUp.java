@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.OnChangeEvictingCache;
+
+/**
+ * Prepares a CML resource (and its imports) for concurrent read access.
+ *
+ * Resolving proxies, loading imports and attaching our index adapters modify
+ * the model or the resource set. This helper triggers all of them up front, so
+ * that validators and generators working on several threads afterwards only
+ * read the models.
+ *
+ * @author agent
+ */
+public class CMLModelWarmUp {
+
+	private CMLModelWarmUp() {
+	}
+
+	/**
+	 * Resolves all proxies, loads all (transitively) imported resources and
+	 * builds the indexes and caches of the given resource and all its imports.
+	 */
+	public static void warmUp(CMLResource resource) {
+		warmUpResource(resource);
+		for (CMLResource importedResource : new CMLImportResolver().resolveTransitivelyImportedResources(resource))
+			warmUpResource(importedResource);
+	}
+
+	private static void warmUpResource(CMLResource resource) {
+		EcoreUtil2.resolveAll(resource);
+		ContextMappingModel model = resource.getContextMappingModel();
+		CMLTypeIndex.getIndex(model).getObjectsOfType(EObject.class);
+		if (model.getMap() != null)
+			CMLRelationshipIndex.getIndex(model.getMap()).getRelationships(null);
+		// the cache adapter of the scope providers is attached to the resource lazily
+		if (model.eResource() instanceof XtextResource && ((XtextResource) model.eResource()).getCache() instanceof OnChangeEvictingCache)
+			((OnChangeEvictingCache) ((XtextResource) model.eResource()).getCache()).getOrCreate(model.eResource());
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.util.SimpleAttributeResolver;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Index of named CML objects (type → name → occurrences) over a root model and
+ * its imported models. The index is built with one single sweep over all
+ * models, so that lookups (such as uniqueness checks) do not have to walk the
+ * whole model again and again.
+ *
+ * The index is a snapshot: it has to be rebuilt if the model changes.
+ *
+ * @author agent
+ */
+public class CMLNameIndex {
+
+	private final Map<Class<? extends EObject>, Map<String, List<EObject>>> index = Maps.newHashMap();
+
+	@SafeVarargs
+	public CMLNameIndex(ContextMappingModel rootModel, Class<? extends EObject>... indexedTypes) {
+		for (Class<? extends EObject> type : indexedTypes)
+			index.put(type, Maps.newHashMap());
+		for (ContextMappingModel model : collectModels(rootModel))
+			indexModel(model);
+	}
+
+	/**
+	 * Returns all objects of the given type (root model and imports) which have
+	 * the given name.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends EObject> List<T> getObjectsByName(Class<T> type, String name) {
+		Map<String, List<EObject>> namesOfType = index.get(type);
+		if (namesOfType == null)
+			throw new IllegalArgumentException("The type '" + type.getSimpleName() + "' has not been indexed.");
+		if (name == null || !namesOfType.containsKey(name))
+			return Collections.emptyList();
+		return (List<T>) Collections.unmodifiableList(namesOfType.get(name));
+	}
+
+	/**
+	 * Returns the number of objects of the given type (root model and imports)
+	 * which have the given name.
+	 */
+	public int countObjectsByName(Class<? extends EObject> type, String name) {
+		return getObjectsByName(type, name).size();
+	}
+
+	private Set<ContextMappingModel> collectModels(ContextMappingModel rootModel) {
+		Set<ContextMappingModel> models = Sets.newLinkedHashSet();
+		models.add(rootModel);
+		if (rootModel.eResource() != null) {
+			for (CMLResource importedResource : new CMLImportResolver().resolveImportedResources(new CMLResource(rootModel.eResource())))
+				models.add(importedResource.getContextMappingModel());
+		}
+		return models;
+	}
+
+	private void indexModel(ContextMappingModel model) {
+		TreeIterator<EObject> iterator = model.eAllContents();
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			for (Map.Entry<Class<? extends EObject>, Map<String, List<EObject>>> typeEntry : index.entrySet()) {
+				if (!typeEntry.getKey().isInstance(object))
+					continue;
+				String name = SimpleAttributeResolver.NAME_RESOLVER.apply(object);
+				if (name != null)
+					typeEntry.getValue().computeIfAbsent(name, n -> Lists.newArrayList()).add(object);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.ETypedElement;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.AbstractMetamodelDeclaration;
+import org.eclipse.xtext.Grammar;
+import org.eclipse.xtext.GrammarUtil;
+import org.eclipse.xtext.IGrammarAccess;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageWritable;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Persistent cache of parsed CML resources. The cache stores the parsed (but
+ * not yet linked) resources including their node models as Xtext resource
+ * storage files in a cache directory, keyed by a hash over the resource URI and
+ * the file content. A cache entry is therefore only used as long as the file
+ * content does not change.
+ *
+ * The key covers the grammar and the metamodels too, so that entries
+ * written by another version of the language are not used.
+ *
+ * The cache is enabled per resource set with
+ * {@link #install(ResourceSet, File)} (batch and standalone API). Only the CML
+ * resources of such a resource set are created as
+ * {@link CMLStorageAwareResource}s; all other clients keep the default resource
+ * implementation.
+ *
+ * @author agent
+ */
+public class CMLParseCache extends AdapterImpl {
+
+	private static final String CACHE_FORMAT_VERSION = "2";
+	private static final String CACHE_FILE_EXTENSION = ".cmlbin";
+	private static final String CML_FILE_EXTENSION = "cml";
+
+	private final File cacheDirectory;
+	private volatile HashCode languageFingerprint;
+
+	public CMLParseCache(File cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Enables the cache for all CML resources loaded into the given resource set:
+	 * the resource set creates them as {@link CMLStorageAwareResource}s.
+	 */
+	public static CMLParseCache install(ResourceSet resourceSet, File cacheDirectory) {
+		CMLParseCache cache = (CMLParseCache) EcoreUtil.getExistingAdapter(resourceSet, CMLParseCache.class);
+		if (cache == null) {
+			cache = new CMLParseCache(cacheDirectory);
+			resourceSet.eAdapters().add(cache);
+			resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(CML_FILE_EXTENSION, new CMLStorageAwareResourceFactory());
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns the cache installed on the given resource set, or null.
+	 */
+	public static CMLParseCache find(ResourceSet resourceSet) {
+		return resourceSet != null ? (CMLParseCache) EcoreUtil.getExistingAdapter(resourceSet, CMLParseCache.class) : null;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == CMLParseCache.class;
+	}
+
+	public File getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Loads the given resource from the cache, if there is a valid entry. Otherwise
+	 * the resource is parsed and stored in the cache.
+	 */
+	void load(StorageAwareResource resource, Map<?, ?> options) throws IOException {
+		byte[] content;
+		try (InputStream inputStream = resource.getResourceSet().getURIConverter().createInputStream(resource.getURI(), options)) {
+			content = ByteStreams.toByteArray(inputStream);
+		}
+		File cacheFile = new File(cacheDirectory, getKey(resource, content) + CACHE_FILE_EXTENSION);
+		if (cacheFile.isFile() && loadFromCache(resource, cacheFile))
+			return;
+
+		resource.load(new ByteArrayInputStream(content), options);
+		if (resource.getErrors().isEmpty())
+			store(resource, cacheFile);
+	}
+
+	private boolean loadFromCache(StorageAwareResource resource, File cacheFile) {
+		try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(cacheFile.toPath()))) {
+			resource.loadFromStorage(new ResourceStorageLoadable(inputStream, true));
+			return true;
+		} catch (IOException | RuntimeException e) {
+			// corrupt or incompatible entry: parse the file again
+			resource.unload();
+			cacheFile.delete();
+			return false;
+		}
+	}
+
+	private void store(StorageAwareResource resource, File cacheFile) {
+		try {
+			Files.createDirectories(cacheDirectory.toPath());
+			File tempFile = File.createTempFile("cml", ".tmp", cacheDirectory);
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))) {
+				new ResourceStorageWritable(outputStream, true).writeResource(resource);
+			}
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			// the cache is an optimization only; we continue with the parsed resource
+		}
+	}
+
+	private String getKey(StorageAwareResource resource, byte[] content) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putString(CACHE_FORMAT_VERSION, Charsets.UTF_8).putByte((byte) 0);
+		hasher.putBytes(getLanguageFingerprint(resource).asBytes());
+		hasher.putString(resource.getURI().toString(), Charsets.UTF_8).putByte((byte) 0);
+		hasher.putBytes(content);
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * Hash over the grammar and the metamodels (EPackages) of the language: the
+	 * storage format refers to both, so that a changed language must not read the
+	 * entries of another one.
+	 */
+	private HashCode getLanguageFingerprint(StorageAwareResource resource) {
+		HashCode fingerprint = languageFingerprint;
+		if (fingerprint == null) {
+			Grammar grammar = resource.getResourceServiceProvider().get(IGrammarAccess.class).getGrammar();
+			Hasher hasher = Hashing.sha256().newHasher();
+			for (Grammar usedGrammar : GrammarUtil.allUsedGrammars(grammar))
+				putContents(hasher, usedGrammar);
+			putContents(hasher, grammar);
+			for (AbstractMetamodelDeclaration metamodel : GrammarUtil.allMetamodelDeclarations(grammar)) {
+				if (metamodel.getEPackage() != null)
+					putContents(hasher, metamodel.getEPackage());
+			}
+			fingerprint = hasher.hash();
+			languageFingerprint = fingerprint;
+		}
+		return fingerprint;
+	}
+
+	private void putContents(Hasher hasher, EObject root) {
+		TreeIterator<EObject> iterator = EcoreUtil.getAllContents(Collections.singleton(root));
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			hasher.putString(object.eClass().getName(), Charsets.UTF_8).putByte((byte) 0);
+			for (EAttribute attribute : object.eClass().getEAllAttributes())
+				hasher.putString(String.valueOf(object.eGet(attribute)), Charsets.UTF_8).putByte((byte) 0);
+			if (object instanceof ETypedElement && ((ETypedElement) object).getEType() != null)
+				hasher.putString(String.valueOf(((ETypedElement) object).getEType().getName()), Charsets.UTF_8).putByte((byte) 0);
+		}
+	}
+
+	/**
+	 * Creates the CML resources of resource sets with a parse cache.
+	 */
+	private static class CMLStorageAwareResourceFactory implements Resource.Factory {
+
+		@Override
+		public Resource createResource(URI uri) {
+			IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE.getResourceServiceProvider(uri);
+			if (resourceServiceProvider == null)
+				throw new ContextMapperApplicationException("The CML language is not registered. Please run the standalone setup first.");
+			CMLStorageAwareResource resource = resourceServiceProvider.get(CMLStorageAwareResource.class);
+			resource.setURI(uri);
+			return resource;
+		}
+
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.SymmetricRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Adjacency index over the relationships of a context map (Bounded Context name
+ * → relationships in which the context participates). The lists keep the order
+ * of the relationships on the map.
+ *
+ * The index is attached to the context map as content adapter: it is built
+ * lazily on the first lookup and marked as outdated as soon as the map or one
+ * of its relationships changes. The Bounded Contexts participating in the
+ * relationships are observed directly (they may be defined in imported files),
+ * so that the index is also outdated if one of them is renamed.
+ *
+ * @author agent
+ */
+public class CMLRelationshipIndex extends EContentAdapter {
+
+	private static final String NAME_FEATURE = "name";
+
+	private final ContextMap contextMap;
+	private final Adapter participantObserver = new ParticipantObserver();
+	private final Set<BoundedContext> observedParticipants = Sets.newIdentityHashSet();
+	private Map<String, List<Relationship>> relationships;
+
+	private CMLRelationshipIndex(ContextMap contextMap) {
+		this.contextMap = contextMap;
+	}
+
+	/**
+	 * Returns the index of the given context map (creates and attaches it, if it
+	 * does not exist yet).
+	 */
+	public static synchronized CMLRelationshipIndex getIndex(ContextMap contextMap) {
+		CMLRelationshipIndex index = (CMLRelationshipIndex) EcoreUtil.getExistingAdapter(contextMap, CMLRelationshipIndex.class);
+		if (index == null) {
+			index = new CMLRelationshipIndex(contextMap);
+			contextMap.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == CMLRelationshipIndex.class;
+	}
+
+	/**
+	 * Returns all relationships in which a Bounded Context with the given name
+	 * participates.
+	 */
+	public synchronized List<Relationship> getRelationships(String boundedContextName) {
+		buildIndexIfNeeded();
+		if (boundedContextName == null || !relationships.containsKey(boundedContextName))
+			return Collections.emptyList();
+		return Collections.unmodifiableList(relationships.get(boundedContextName));
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (!notification.isTouch())
+			invalidate();
+	}
+
+	private synchronized void invalidate() {
+		relationships = null;
+	}
+
+	private void buildIndexIfNeeded() {
+		if (relationships != null)
+			return;
+		stopObservingParticipants();
+		Map<String, List<Relationship>> relationshipsByContext = Maps.newLinkedHashMap();
+		for (Relationship relationship : contextMap.getRelationships()) {
+			if (relationship instanceof SymmetricRelationship) {
+				add(relationshipsByContext, ((SymmetricRelationship) relationship).getParticipant1(), relationship);
+				add(relationshipsByContext, ((SymmetricRelationship) relationship).getParticipant2(), relationship);
+			} else if (relationship instanceof UpstreamDownstreamRelationship) {
+				add(relationshipsByContext, ((UpstreamDownstreamRelationship) relationship).getUpstream(), relationship);
+				add(relationshipsByContext, ((UpstreamDownstreamRelationship) relationship).getDownstream(), relationship);
+			}
+		}
+		relationships = relationshipsByContext;
+	}
+
+	private void add(Map<String, List<Relationship>> index, BoundedContext boundedContext, Relationship relationship) {
+		if (boundedContext == null)
+			return;
+		if (observedParticipants.add(boundedContext))
+			boundedContext.eAdapters().add(participantObserver);
+		if (boundedContext.getName() == null)
+			return;
+		List<Relationship> list = index.computeIfAbsent(boundedContext.getName(), n -> Lists.newArrayList());
+		// a context can be both participants of a relationship
+		if (list.isEmpty() || list.get(list.size() - 1) != relationship)
+			list.add(relationship);
+	}
+
+	private void stopObservingParticipants() {
+		for (BoundedContext participant : observedParticipants)
+			participant.eAdapters().remove(participantObserver);
+		observedParticipants.clear();
+	}
+
+	/**
+	 * Marks the index as outdated if a participating Bounded Context is renamed.
+	 */
+	private class ParticipantObserver extends AdapterImpl {
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (!notification.isTouch() && notification.getFeature() instanceof EAttribute && NAME_FEATURE.equals(((EAttribute) notification.getFeature()).getName()))
+				invalidate();
+		}
+
+	}
+
+}
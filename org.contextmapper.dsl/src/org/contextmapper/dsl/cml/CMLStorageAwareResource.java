@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+
+/**
+ * CML resource which is loaded via the {@link CMLParseCache}, if a cache is
+ * enabled for its resource set. The resource sets with a cache create their CML
+ * resources with this class (see {@link CMLParseCache#install}); without cache
+ * it behaves exactly like the default (lazy linking) resource.
+ *
+ * @author agent
+ */
+public class CMLStorageAwareResource extends StorageAwareResource {
+
+	@Override
+	public void load(Map<?, ?> options) throws IOException {
+		CMLParseCache cache = isLoaded() || isLoading() || getResourceSet() == null ? null : CMLParseCache.find(getResourceSet());
+		if (cache == null) {
+			super.load(options);
+			return;
+		}
+		cache.load(this, options);
+	}
+
+}
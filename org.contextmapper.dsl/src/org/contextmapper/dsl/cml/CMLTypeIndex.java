@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Index of all objects of a CML model (EClass → objects), including the model
+ * itself. The index is attached to the model as content adapter: it is built
+ * lazily on the first lookup and marked as outdated as soon as an object is
+ * added to or removed from the containment tree of the model.
+ *
+ * Note that the index only covers the given model (no imports); see
+ * {@link CMLModelObjectsResolvingHelper} for lookups over imported models.
+ *
+ * Once created, the index (and therefore an adapter on every object of the
+ * model) stays attached for the lifetime of the model, so that later lookups
+ * (validation, generators) can reuse it. Clients which keep models around
+ * without further lookups can detach it with {@link #removeIndex}.
+ *
+ * @author agent
+ */
+public class CMLTypeIndex extends EContentAdapter {
+
+	private final ContextMappingModel model;
+	private Map<EClass, List<EObject>> objectsByEClass;
+	private Map<Class<?>, List<EObject>> objectsByType = Maps.newHashMap();
+
+	private CMLTypeIndex(ContextMappingModel model) {
+		this.model = model;
+	}
+
+	/**
+	 * Returns the index of the given model (creates and attaches it, if it does not
+	 * exist yet).
+	 */
+	public static synchronized CMLTypeIndex getIndex(ContextMappingModel model) {
+		CMLTypeIndex index = (CMLTypeIndex) EcoreUtil.getExistingAdapter(model, CMLTypeIndex.class);
+		if (index == null) {
+			index = new CMLTypeIndex(model);
+			model.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Detaches the index from the given model (if there is one).
+	 */
+	public static synchronized void removeIndex(ContextMappingModel model) {
+		CMLTypeIndex index = (CMLTypeIndex) EcoreUtil.getExistingAdapter(model, CMLTypeIndex.class);
+		if (index != null)
+			model.eAdapters().remove(index);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == CMLTypeIndex.class;
+	}
+
+	/**
+	 * Returns all objects of the model which are instances of the given type.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T extends EObject> List<T> getObjectsOfType(Class<T> type) {
+		if (objectsByEClass == null)
+			buildIndex();
+		return (List<T>) objectsByType.computeIfAbsent(type, t -> collectObjectsOfType(t));
+	}
+
+	/**
+	 * Synchronized with the lookups, so that no lookup sees an index which is
+	 * being invalidated or the adapters of new objects which are being attached.
+	 */
+	@Override
+	public synchronized void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (isContainmentChange(notification))
+			invalidate();
+	}
+
+	private void invalidate() {
+		objectsByEClass = null;
+		objectsByType = Maps.newHashMap();
+	}
+
+	private boolean isContainmentChange(Notification notification) {
+		if (notification.isTouch() || !(notification.getFeature() instanceof EReference) || !((EReference) notification.getFeature()).isContainment())
+			return false;
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+		case Notification.ADD_MANY:
+		case Notification.REMOVE:
+		case Notification.REMOVE_MANY:
+		case Notification.SET:
+		case Notification.UNSET:
+		case Notification.MOVE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private void buildIndex() {
+		objectsByEClass = Maps.newLinkedHashMap();
+		addToIndex(model);
+		model.eAllContents().forEachRemaining(o -> addToIndex(o));
+	}
+
+	private void addToIndex(EObject object) {
+		objectsByEClass.computeIfAbsent(object.eClass(), c -> Lists.newArrayList()).add(object);
+	}
+
+	private List<EObject> collectObjectsOfType(Class<?> type) {
+		List<EObject> objects = Lists.newArrayList();
+		for (Map.Entry<EClass, List<EObject>> entry : objectsByEClass.entrySet()) {
+			Class<?> instanceClass = entry.getKey().getInstanceClass();
+			if (instanceClass != null && type.isAssignableFrom(instanceClass))
+				objects.addAll(entry.getValue());
+		}
+		return Collections.unmodifiableList(objects);
+	}
+
+}
@@ -15,21 +15,28 @@
  */
 package org.contextmapper.dsl.generator;
 
-import java.io.File;
 import java.io.StringWriter;
-import java.net.URL;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.io.FileUtils;
-
+import freemarker.cache.ClassTemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateExceptionHandler;
 
 public abstract class AbstractFreemarkerTextCreator<T> {
 
-	private Configuration freemarkerConfig;
+	/*
+	 * Parsed templates are shared by all creators of the process (templates are
+	 * thread-safe once they are parsed). The templates are loaded directly from
+	 * the classpath (relative to the template class).
+	 */
+	private static final ConcurrentMap<Class<?>, Configuration> CONFIGURATIONS = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
 	private Template freemarkerTemplate;
 
 	public AbstractFreemarkerTextCreator() {
@@ -37,16 +44,23 @@ public abstract class AbstractFreemarkerTextCreator<T> {
 	}
 
 	public String createText(T modelObject) {
+		StringWriter writer = new StringWriter();
+		createText(modelObject, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Writes the text into the given writer (instead of creating it in memory).
+	 */
+	public void createText(T modelObject, Writer writer) {
 		preprocessing(modelObject);
 		Map<String, Object> root = new HashMap<>();
 		registerModelObjects(root, modelObject);
-		StringWriter writer = new StringWriter();
 		try {
 			freemarkerTemplate.process(root, writer);
 		} catch (Exception e) {
 			throw new RuntimeException("Error in processing freemarker template.", e);
 		}
-		return writer.toString();
 	}
 
 	protected abstract void preprocessing(T modelObject);
@@ -58,26 +72,24 @@ public abstract class AbstractFreemarkerTextCreator<T> {
 	protected abstract Class<?> getTemplateClass();
 
 	private void loadFreemarkerTemplate() {
-		URL url = getTemplateClass().getResource(getTemplateName());
-		File templateDir = new File(System.getProperty("java.io.tmpdir"), "context-mapper-freemarker-templates-" + getPID());
-		if (!templateDir.exists())
-			templateDir.mkdir();
-		try {
-			FileUtils.copyURLToFile(url, new File(templateDir, getTemplateName()));
-
-			freemarkerConfig = new Configuration(Configuration.VERSION_2_3_22);
-			freemarkerConfig.setDirectoryForTemplateLoading(templateDir);
-			freemarkerConfig.setDefaultEncoding("UTF-8");
-			freemarkerConfig.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
-			freemarkerTemplate = freemarkerConfig.getTemplate(getTemplateName());
-		} catch (Exception e) {
-			throw new RuntimeException("Cannot load freemarker template!", e);
-		}
+		Class<?> templateClass = getTemplateClass();
+		String templateName = getTemplateName();
+		freemarkerTemplate = TEMPLATES.computeIfAbsent(templateClass.getName() + "/" + templateName, key -> {
+			try {
+				return CONFIGURATIONS.computeIfAbsent(templateClass, AbstractFreemarkerTextCreator::createConfiguration).getTemplate(templateName);
+			} catch (Exception e) {
+				throw new RuntimeException("Cannot load freemarker template!", e);
+			}
+		});
 	}
 
-	private long getPID() {
-		String processName = java.lang.management.ManagementFactory.getRuntimeMXBean().getName();
-		return Long.parseLong(processName.split("@")[0]);
+	private static Configuration createConfiguration(Class<?> templateClass) {
+		Configuration configuration = new Configuration(Configuration.VERSION_2_3_22);
+		configuration.setTemplateLoader(new ClassTemplateLoader(templateClass, ""));
+		configuration.setLocalizedLookup(false);
+		configuration.setDefaultEncoding("UTF-8");
+		configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+		return configuration;
 	}
 
 }
@@ -30,6 +30,8 @@ import java.util.Set;
 import org.contextmapper.contextmap.generator.model.ContextMap;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
 import org.contextmapper.dsl.generator.contextmap.ContextMapModelConverter;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.generator.incremental.ModelFingerprint;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
@@ -57,6 +59,9 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 	@Override
 	protected void generateFromContextMap(org.contextmapper.dsl.contextMappingDSL.ContextMap cmlContextMap, IFileSystemAccess2 fsa, URI inputFileURI) {
 		String fileName = inputFileURI.trimFileExtension().lastSegment();
+		Set<ContextMapFormat> formatsToGenerate = getFormatsToGenerate(cmlContextMap, fsa, fileName);
+		if (formatsToGenerate.isEmpty())
+			return;
 
 		ContextMap contextMap = new ContextMapModelConverter().convert(cmlContextMap, printAdditionalLabels);
 		org.contextmapper.contextmap.generator.ContextMapGenerator generator = createContextMapGenerator();
@@ -66,10 +71,12 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 			generator.setWidth(width);
 		else if (this.height > 0)
 			generator.setHeight(height);
-		for (ContextMapFormat format : formats) {
-			try (ByteArrayOutputStream outputstream = new ByteArrayOutputStream()) {
+		// the graphic library builds and lays out the graph once per format
+		// TODO lay the graph out once for all formats (needs an API in the context-map-generator library to render one layout in several formats)
+		for (ContextMapFormat format : formatsToGenerate) {
+			try (GraphicOutputStream outputstream = new GraphicOutputStream()) {
 				generator.generateContextMapGraphic(contextMap, getGraphvizLibFormat(format), outputstream);
-				try (InputStream inputstream = new ByteArrayInputStream(outputstream.toByteArray())) {
+				try (InputStream inputstream = outputstream.toInputStream()) {
 					fsa.generateFile(fileName + "_ContextMap." + format.getFileExtension(), inputstream);
 				}
 			} catch (IOException e) {
@@ -78,6 +85,20 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 		}
 	}
 
+	private Set<ContextMapFormat> getFormatsToGenerate(org.contextmapper.dsl.contextMappingDSL.ContextMap cmlContextMap, IFileSystemAccess2 fsa, String fileName) {
+		if (!(fsa instanceof IncrementalFileSystemAccess))
+			return formats;
+		ModelFingerprint fingerprint = new ModelFingerprint(ContextMapGenerator.class, cmlContextMap).addOption(labelSpacingFactor).addOption(width).addOption(height)
+				.addOption(useWidth).addOption(printAdditionalLabels).addOption(clusterTeams);
+		String fingerprintValue = fingerprint.getValue();
+		Set<ContextMapFormat> formatsToGenerate = new HashSet<>();
+		for (ContextMapFormat format : formats) {
+			if (!((IncrementalFileSystemAccess) fsa).isUpToDate(fileName + "_ContextMap." + format.getFileExtension(), fingerprintValue))
+				formatsToGenerate.add(format);
+		}
+		return formatsToGenerate;
+	}
+
 	/**
 	 * Changes the formats which will be generated when calling the generator.
 	 * 
@@ -172,4 +193,16 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 		return false;
 	}
 
+	/**
+	 * Output stream for a rendered graphic. The file system access reads the
+	 * buffer directly (without copying it).
+	 */
+	private static class GraphicOutputStream extends ByteArrayOutputStream {
+
+		private InputStream toInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+
+	}
+
 }
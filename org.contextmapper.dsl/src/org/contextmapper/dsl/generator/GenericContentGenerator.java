@@ -16,15 +16,22 @@
 package org.contextmapper.dsl.generator;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.freemarker.FreemarkerTextGenerator;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.generator.incremental.ModelFingerprint;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
+import com.google.common.hash.Hashing;
+
 /**
  * Can generate arbitrary text files from a CML Context Map using a Freemarker
  * template.
@@ -59,11 +66,16 @@ public class GenericContentGenerator extends AbstractContextMappingModelGenerato
 		if (targetFileName == null || "".equals(targetFileName))
 			throw new GeneratorInputException("Please provide a name for the file that shall be generated.");
 
-		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(freemarkerTemplateFile);
-		for (Map.Entry<String, Object> customDataEntry : customDataMap.entrySet()) {
-			generator.registerCustomModelProperty(customDataEntry.getKey(), customDataEntry.getValue());
+		ModelFingerprint fingerprint = new ModelFingerprint(GenericContentGenerator.class, model).addOption(getTemplateHash()).addOption(new TreeMap<>(customDataMap));
+		IncrementalFileSystemAccess.generateFile(fsa, targetFileName, fingerprint, writer -> new FreemarkerTextGenerator(freemarkerTemplateFile).generate(model, customDataMap, writer));
+	}
+
+	private String getTemplateHash() {
+		try {
+			return Hashing.sha256().hashBytes(Files.readAllBytes(freemarkerTemplateFile.toPath())).toString();
+		} catch (IOException e) {
+			throw new GeneratorInputException("The file '" + freemarkerTemplateFile.getAbsolutePath() + "' could not be read!");
 		}
-		fsa.generateFile(targetFileName, generator.generate(model));
 	}
 
 }
@@ -15,7 +15,17 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.generator.incremental.ModelFingerprint;
 import org.contextmapper.dsl.generator.mdsl.MDSLAPIDescriptionCreator;
 import org.contextmapper.dsl.generator.mdsl.MDSLModelCreator;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionContext;
@@ -24,25 +34,101 @@ import org.contextmapper.dsl.generator.mdsl.model.ServiceSpecification;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
 public class MDSLContractsGenerator extends AbstractContextMappingModelGenerator {
 
 	private static final String MDSL_FILE_EXT = "mdsl";
 
+	private ForkJoinPool pool;
+
+	/**
+	 * Enables the parallel mode: the existing MDSL files (protected regions) are
+	 * read on the given pool while the service specifications are created, and
+	 * the specifications are rendered on the pool. The files are still written
+	 * from the calling thread and in the same order as in the sequential mode. In
+	 * the parallel mode, every specification only contains the data types it uses
+	 * (default: no pool; everything is done sequentially).
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI) {
 		MDSLModelCreator mdslModelCreator = new MDSLModelCreator(model);
+		ModelFingerprint fingerprint = new ModelFingerprint(MDSLContractsGenerator.class, model).addOption(inputFileURI.lastSegment());
+		if (pool != null) {
+			generateInParallel(mdslModelCreator, fsa, inputFileURI, fingerprint.addOption("parallel"));
+			return;
+		}
 		for (ServiceSpecification serviceSpecification : mdslModelCreator.createServiceSpecifications()) {
-			String mdslFileName = inputFileURI.trimFileExtension().lastSegment() + "_" + serviceSpecification.getName() + "." + MDSL_FILE_EXT;
-			ProtectedRegionContext protectedRegionContext = createProtectedRegionContext(mdslFileName, fsa);
-			MDSLAPIDescriptionCreator dslCreator = new MDSLAPIDescriptionCreator(protectedRegionContext, inputFileURI.lastSegment());
-			fsa.generateFile(mdslFileName, dslCreator.createText(serviceSpecification));
+			String mdslFileName = getMDSLFileName(inputFileURI, serviceSpecification.getName());
+			IncrementalFileSystemAccess.generateFile(fsa, mdslFileName, fingerprint, writer -> {
+				ProtectedRegionContext protectedRegionContext = createProtectedRegionContext(mdslFileName, fsa);
+				MDSLAPIDescriptionCreator dslCreator = new MDSLAPIDescriptionCreator(protectedRegionContext, inputFileURI.lastSegment());
+				dslCreator.createText(serviceSpecification, writer);
+			});
+		}
+	}
+
+	private void generateInParallel(MDSLModelCreator mdslModelCreator, IFileSystemAccess2 fsa, URI inputFileURI, ModelFingerprint fingerprint) {
+		// read the existing files while the specifications are created (the model creator runs on this thread)
+		Map<String, ForkJoinTask<ProtectedRegionContext>> protectedRegionContexts = Maps.newHashMap();
+		Set<String> upToDateFileNames = Sets.newHashSet();
+		for (String specificationName : mdslModelCreator.getServiceSpecificationNames()) {
+			String mdslFileName = getMDSLFileName(inputFileURI, specificationName);
+			if (isUpToDate(fsa, mdslFileName, fingerprint))
+				upToDateFileNames.add(mdslFileName);
+			else
+				protectedRegionContexts.put(mdslFileName, pool.submit(() -> createProtectedRegionContext(mdslFileName, fsa)));
+		}
+		mdslModelCreator.setDataTypesPerSpecification(true);
+		List<ServiceSpecification> serviceSpecifications = mdslModelCreator.createServiceSpecifications();
+
+		List<String> mdslFileNames = Lists.newArrayList();
+		List<ForkJoinTask<String>> renderings = Lists.newArrayList();
+		for (ServiceSpecification serviceSpecification : serviceSpecifications) {
+			String mdslFileName = getMDSLFileName(inputFileURI, serviceSpecification.getName());
+			if (upToDateFileNames.contains(mdslFileName))
+				continue;
+			// the names of the created specifications are expected to be known in advance; read the file now otherwise
+			ForkJoinTask<ProtectedRegionContext> protectedRegionContext = protectedRegionContexts.computeIfAbsent(mdslFileName,
+					fileName -> pool.submit(() -> createProtectedRegionContext(fileName, fsa)));
+			mdslFileNames.add(mdslFileName);
+			renderings.add(pool.submit(() -> new MDSLAPIDescriptionCreator(protectedRegionContext.join(), inputFileURI.lastSegment()).createText(serviceSpecification)));
+		}
+		for (int i = 0; i < renderings.size(); i++)
+			fsa.generateFile(mdslFileNames.get(i), getResult(renderings.get(i)));
+	}
+
+	private boolean isUpToDate(IFileSystemAccess2 fsa, String mdslFileName, ModelFingerprint fingerprint) {
+		return fsa instanceof IncrementalFileSystemAccess && ((IncrementalFileSystemAccess) fsa).isUpToDate(mdslFileName, fingerprint.getValue());
+	}
+
+	private String getMDSLFileName(URI inputFileURI, String serviceSpecificationName) {
+		return inputFileURI.trimFileExtension().lastSegment() + "_" + serviceSpecificationName + "." + MDSL_FILE_EXT;
+	}
+
+	private String getResult(ForkJoinTask<String> rendering) {
+		try {
+			return rendering.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("The MDSL generation has been interrupted.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new ContextMapperApplicationException("The MDSL generation of a service specification failed.", e.getCause());
 		}
 	}
 
 	private ProtectedRegionContext createProtectedRegionContext(String mdslFileName, IFileSystemAccess2 fsa) {
 		ProtectedRegionContextFactory factory = new ProtectedRegionContextFactory();
 		if (fsa.isFile(mdslFileName)) {
-			return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName).toString());
+			return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName));
 		} else {
 			return factory.createProtectedRegionContextForNewMDSLFile();
 		}
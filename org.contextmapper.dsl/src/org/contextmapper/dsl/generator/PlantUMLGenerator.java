@@ -17,7 +17,12 @@ package org.contextmapper.dsl.generator;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import org.contextmapper.dsl.cml.CMLModelWarmUp;
+import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
@@ -27,7 +32,10 @@ import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
 import org.contextmapper.dsl.contextMappingDSL.Subdomain;
 import org.contextmapper.dsl.contextMappingDSL.UseCase;
 import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.generator.incremental.ModelFingerprint;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLAggregateClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLBoundedContextClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLComponentDiagramCreator;
@@ -37,8 +45,11 @@ import org.contextmapper.dsl.generator.plantuml.PlantUMLStateDiagramCreator4Flow
 import org.contextmapper.dsl.generator.plantuml.PlantUMLSubdomainClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLUseCaseDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLUseCaseInteractionsSequenceDiagramCreator;
+import org.contextmapper.dsl.generator.streaming.StreamingFileSystemAccess;
+import org.contextmapper.dsl.generator.streaming.TextContent;
 import org.contextmapper.tactic.dsl.tacticdsl.StateTransition;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
@@ -48,51 +59,87 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 
 	private static final String PLANT_UML_FILE_EXT = "puml";
 
+	private ForkJoinPool pool;
+
+	/**
+	 * Enables the parallel mode: the diagrams are rendered on the given pool. The
+	 * files are still written from the calling thread and in the same order as in
+	 * the sequential mode (default: no pool; diagrams are rendered sequentially).
+	 * In the parallel mode, the diagrams are rendered in memory (the sequential
+	 * mode streams them into the file system access, if it supports that).
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa,
 			URI inputFileURI) {
 		checkPreconditions();
-		String fileName = inputFileURI.trimFileExtension().lastSegment();
+		List<DiagramTask> tasks = createDiagramTasks(model, inputFileURI.trimFileExtension().lastSegment());
+		if (fsa instanceof IncrementalFileSystemAccess) {
+			IncrementalFileSystemAccess incrementalFsa = (IncrementalFileSystemAccess) fsa;
+			tasks.removeIf(task -> incrementalFsa.isUpToDate(task.fileName, task.fingerprint.getValue()));
+		}
+
+		if (pool == null) {
+			for (DiagramTask task : tasks)
+				StreamingFileSystemAccess.generateFile(fsa, task.fileName, task.diagram);
+			return;
+		}
+
+		// the diagram creators only read the model; resolve and index everything up front
+		if (model.eResource() != null)
+			CMLModelWarmUp.warmUp(new CMLResource(model.eResource()));
+		List<ForkJoinTask<String>> renderings = Lists.newArrayList();
+		for (DiagramTask task : tasks)
+			renderings.add(pool.submit(() -> TextContent.asString(task.diagram)));
+		for (int i = 0; i < tasks.size(); i++)
+			fsa.generateFile(tasks.get(i).fileName, getDiagram(renderings.get(i)));
+	}
+
+	private List<DiagramTask> createDiagramTasks(ContextMappingModel model, String fileName) {
+		List<DiagramTask> tasks = Lists.newArrayList();
 
 		// generate component diagram, if Context Map available
 		if (model.getMap() != null)
-			fsa.generateFile(fileName + "_ContextMap." + PLANT_UML_FILE_EXT,
-					new PlantUMLComponentDiagramCreator().createDiagram(model.getMap()));
+			tasks.add(new DiagramTask(fileName + "_ContextMap." + PLANT_UML_FILE_EXT,
+					fingerprint(model.getMap()), writer -> new PlantUMLComponentDiagramCreator().createDiagram(model.getMap(), writer)));
 
 		// generate class and state diagrams for Bounded Contexts
 		for (BoundedContext boundedContext : model.getBoundedContexts()) {
 
 			// class diagram for complete BC
-			fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
-					new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext));
+			tasks.add(new DiagramTask(fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
+					fingerprint(boundedContext), writer -> new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext, writer)));
 
 			// class diagram for aggregates
 			for (Aggregate aggregate : boundedContext.getAggregates()) {
-				fsa.generateFile(
+				tasks.add(new DiagramTask(
 						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLAggregateClassDiagramCreator().createDiagram(aggregate));
+						fingerprint(aggregate), writer -> new PlantUMLAggregateClassDiagramCreator().createDiagram(aggregate, writer)));
 			}
 
 			// class diagram for modules
 			for (SculptorModule module : boundedContext.getModules()) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
-						+ PLANT_UML_FILE_EXT, new PlantUMLModuleClassDiagramCreator().createDiagram(module));
+				tasks.add(new DiagramTask(fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
+						+ PLANT_UML_FILE_EXT, fingerprint(module), writer -> new PlantUMLModuleClassDiagramCreator().createDiagram(module, writer)));
 			}
 
 			// state diagram for aggregates
 			List<Aggregate> aggregatesWithStates = getAggregatesWithStatesAndTransitions(boundedContext);
 			for (Aggregate aggregate : aggregatesWithStates) {
-				fsa.generateFile(
+				tasks.add(new DiagramTask(
 						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "_StateDiagram" + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLStateDiagramCreator4Aggregate().createDiagram(aggregate));
+						fingerprint(aggregate), writer -> new PlantUMLStateDiagramCreator4Aggregate().createDiagram(aggregate, writer)));
 			}
 
 			// state diagram for flows
 			for (Flow flow : getFlowsWithStates(boundedContext)) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
-						+ PLANT_UML_FILE_EXT, new PlantUMLStateDiagramCreator4Flow().createDiagram(flow));
+				tasks.add(new DiagramTask(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
+						+ PLANT_UML_FILE_EXT, fingerprint(flow), writer -> new PlantUMLStateDiagramCreator4Flow().createDiagram(flow, writer)));
 			}
 		}
 
@@ -100,25 +147,44 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 		for (Domain domain : model.getDomains()) {
 			domain.getSubdomains().stream().filter(subdomain -> !subdomain.getEntities().isEmpty())
 					.forEach(subdomain -> {
-						fsa.generateFile(fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
-								new PlantUMLSubdomainClassDiagramCreator(domain.getName()).createDiagram(subdomain));
+						tasks.add(new DiagramTask(fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
+								fingerprint(subdomain).addOption(domain.getName()),
+								writer -> new PlantUMLSubdomainClassDiagramCreator(domain.getName()).createDiagram(subdomain, writer)));
 					});
 		}
 
 		// generate Use Case diagram out of user requirements, if available
 		if (!model.getUserRequirements().isEmpty())
-			fsa.generateFile(fileName + "_UseCases." + PLANT_UML_FILE_EXT,
-					new PlantUMLUseCaseDiagramCreator().createDiagram(model));
+			tasks.add(new DiagramTask(fileName + "_UseCases." + PLANT_UML_FILE_EXT,
+					fingerprint(model), writer -> new PlantUMLUseCaseDiagramCreator().createDiagram(model, writer)));
 
 		// generate sequence diagrams for Use Cases with interactions
 		for (UserRequirement userRequirement : model.getUserRequirements()) {
 			if (userRequirement instanceof UseCase && !userRequirement.getFeatures().isEmpty()) {
-				fsa.generateFile(
+				tasks.add(new DiagramTask(
 						fileName + "_UseCase_" + userRequirement.getName() + "_Interactions." + PLANT_UML_FILE_EXT,
-						new PlantUMLUseCaseInteractionsSequenceDiagramCreator()
-								.createDiagram((UseCase) userRequirement));
+						fingerprint(userRequirement), writer -> new PlantUMLUseCaseInteractionsSequenceDiagramCreator()
+								.createDiagram((UseCase) userRequirement, writer)));
 			}
 		}
+		return tasks;
+	}
+
+	private ModelFingerprint fingerprint(EObject input) {
+		return new ModelFingerprint(PlantUMLGenerator.class, input);
+	}
+
+	private String getDiagram(ForkJoinTask<String> rendering) {
+		try {
+			return rendering.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("The PlantUML generation has been interrupted.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new ContextMapperApplicationException("The PlantUML generation of a diagram failed.", e.getCause());
+		}
 	}
 
 	private void checkPreconditions() {
@@ -164,4 +230,16 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 		return false;
 	}
 
+	private static class DiagramTask {
+		private final String fileName;
+		private final ModelFingerprint fingerprint;
+		private final TextContent diagram;
+
+		private DiagramTask(String fileName, ModelFingerprint fingerprint, TextContent diagram) {
+			this.fileName = fileName;
+			this.fingerprint = fingerprint;
+			this.diagram = diagram;
+		}
+	}
+
 }
@@ -22,6 +22,8 @@ import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Flow;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.generator.incremental.ModelFingerprint;
 import org.contextmapper.dsl.generator.sketchminer.SketchMinerModelCreator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
@@ -40,7 +42,8 @@ public class SketchMinerGenerator extends AbstractContextMappingModelGenerator {
 		// generate sketch miner file for Bounded Contexts flows
 		for (BoundedContext boundedContext : model.getBoundedContexts()) {
 			for (Flow flow : getFlowsWithSteps(boundedContext)) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "." + SKETCH_MINER_FILE_EXT, new SketchMinerModelCreator().createText(flow));
+				IncrementalFileSystemAccess.generateFile(fsa, fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "." + SKETCH_MINER_FILE_EXT,
+						new ModelFingerprint(SketchMinerGenerator.class, flow), writer -> new SketchMinerModelCreator().createText(flow, writer));
 			}
 		}
 	}
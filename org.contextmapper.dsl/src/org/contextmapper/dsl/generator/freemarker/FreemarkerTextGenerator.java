@@ -18,10 +18,14 @@ package org.contextmapper.dsl.generator.freemarker;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.contextmapper.dsl.contextMappingDSL.CommandInvokation;
 import org.contextmapper.dsl.contextMappingDSL.CommandInvokationStep;
@@ -63,38 +67,65 @@ import org.contextmapper.tactic.dsl.tacticdsl.Trait;
 import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
 
 import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
 import freemarker.template.Template;
 import freemarker.template.TemplateExceptionHandler;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
 
 /**
  * Generates a string from a CML Context Map based on a Freemarker template.
  * 
+ * The Freemarker configurations (one per template directory) and the parsed
+ * templates are shared by all generators of the process; a template is parsed
+ * again if its file has been modified. The helper methods and classes that are
+ * available in all templates are created once. Per call, only the model data
+ * is created and put on top of them, so that one generator instance can be
+ * used for many models (also concurrently).
+ * 
  * @author Stefan Kapferer
  *
  */
 public class FreemarkerTextGenerator {
 
+	private static final ConcurrentMap<File, Configuration> CONFIGURATIONS = new ConcurrentHashMap<>();
+	private static final Map<String, Object> BASE_DATA_MAP = createBaseDataMap();
+
 	private File templateFile;
 	private Map<String, Object> dataMap;
 
 	public FreemarkerTextGenerator(File templateFile) {
 		this.templateFile = templateFile;
-		dataMap = new HashMap<>();
+		dataMap = Collections.synchronizedMap(new HashMap<>());
 	}
 
 	public String generate(ContextMappingModel contextMappingModel) {
-		String result = "";
+		return generate(contextMappingModel, Collections.emptyMap());
+	}
+
+	/**
+	 * Generates the text for the given model. The custom properties are only
+	 * available for this call (in addition to the ones registered with
+	 * {@link #registerCustomModelProperty(String, Object)}).
+	 */
+	public String generate(ContextMappingModel contextMappingModel, Map<String, Object> customProperties) {
+		StringWriter writer = new StringWriter();
+		generate(contextMappingModel, customProperties, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Writes the text into the given writer (instead of creating it in memory).
+	 */
+	public void generate(ContextMappingModel contextMappingModel, Map<String, Object> customProperties, Writer writer) {
 		try {
-			Configuration configuration = configureFreemarker();
+			Configuration configuration = getConfiguration();
 			Template template = configuration.getTemplate(templateFile.getName());
-
-			StringWriter writer = new StringWriter();
-			template.process(prepareModelData(contextMappingModel), writer);
-			result = writer.toString();
+			template.process(new DataModel(configuration.getObjectWrapper(), prepareModelData(contextMappingModel), BASE_DATA_MAP, customProperties, dataMap), writer);
 		} catch (Exception e) {
 			throw new ContextMapperApplicationException("Freemarker template exception: " + e.getMessage(), e);
 		}
-		return result;
 	}
 
 	public void registerCustomModelProperty(String propertyName, Object object) {
@@ -102,29 +133,33 @@ public class FreemarkerTextGenerator {
 	}
 
 	private Map<String, Object> prepareModelData(ContextMappingModel contextMappingModel) {
-		dataMap.put("contextMap", contextMappingModel.getMap());
-		dataMap.put("boundedContexts", contextMappingModel.getBoundedContexts());
-		dataMap.put("domains", contextMappingModel.getDomains());
-		dataMap.put("imports", contextMappingModel.getImports());
-		dataMap.put("useCases", contextMappingModel.getUserRequirements());
-		dataMap.put("userStories", contextMappingModel.getUserRequirements());
+		Map<String, Object> modelDataMap = new HashMap<>();
+		modelDataMap.put("contextMap", contextMappingModel.getMap());
+		modelDataMap.put("boundedContexts", contextMappingModel.getBoundedContexts());
+		modelDataMap.put("domains", contextMappingModel.getDomains());
+		modelDataMap.put("imports", contextMappingModel.getImports());
+		modelDataMap.put("useCases", contextMappingModel.getUserRequirements());
+		modelDataMap.put("userStories", contextMappingModel.getUserRequirements());
 		String timeStamp = new SimpleDateFormat("dd.MM.YYYY HH:mm:ss z").format(new Date());
-		dataMap.put("timestamp", timeStamp); // for backwards compatibility
-		dataMap.put("timeStamp", timeStamp);
+		modelDataMap.put("timestamp", timeStamp); // for backwards compatibility
+		modelDataMap.put("timeStamp", timeStamp);
 		String fileName = contextMappingModel.eResource().getURI().lastSegment().toString();
-		dataMap.put("filename", fileName); // for backwards compatibility
-		dataMap.put("fileName", fileName);
+		modelDataMap.put("filename", fileName); // for backwards compatibility
+		modelDataMap.put("fileName", fileName);
 		String userName = System.getProperty("user.name");
-		dataMap.put("username", userName); // for backwards compatibility
-		dataMap.put("userName", userName);
-
-		dataMap.putAll(createTemplatingHelperMethods());
-		dataMap.putAll(createClassMap());
+		modelDataMap.put("username", userName); // for backwards compatibility
+		modelDataMap.put("userName", userName);
+		return modelDataMap;
+	}
 
-		return dataMap;
+	private static Map<String, Object> createBaseDataMap() {
+		Map<String, Object> baseDataMap = new HashMap<>();
+		baseDataMap.putAll(createTemplatingHelperMethods());
+		baseDataMap.putAll(createClassMap());
+		return Collections.unmodifiableMap(baseDataMap);
 	}
 
-	private Map<String, Object> createTemplatingHelperMethods() {
+	private static Map<String, Object> createTemplatingHelperMethods() {
 		Map<String, Object> methodsMap = new HashMap<>();
 		methodsMap.put("instanceOf", new InstanceOfMethod());
 		methodsMap.put("getType", new GetTypeOfComplexTypeMethod());
@@ -134,7 +169,7 @@ public class FreemarkerTextGenerator {
 		return methodsMap;
 	}
 
-	private Map<String, Object> createClassMap() {
+	private static Map<String, Object> createClassMap() {
 		Map<String, Object> classMap = new HashMap<>();
 		classMap.put("SymmetricRelationship", SymmetricRelationship.class);
 		classMap.put("Partnership", Partnership.class);
@@ -175,12 +210,56 @@ public class FreemarkerTextGenerator {
 		return classMap;
 	}
 
-	private Configuration configureFreemarker() throws IOException {
+	private Configuration getConfiguration() throws IOException {
+		File templateDir = templateFile.getAbsoluteFile().getParentFile().getCanonicalFile();
+		Configuration configuration = CONFIGURATIONS.get(templateDir);
+		if (configuration == null) {
+			configuration = configureFreemarker(templateDir);
+			Configuration existingConfiguration = CONFIGURATIONS.putIfAbsent(templateDir, configuration);
+			if (existingConfiguration != null)
+				configuration = existingConfiguration;
+		}
+		return configuration;
+	}
+
+	private static Configuration configureFreemarker(File templateDir) throws IOException {
 		Configuration configuration = new Configuration(Configuration.VERSION_2_3_22);
-		configuration.setDirectoryForTemplateLoading(templateFile.getParentFile());
+		configuration.setDirectoryForTemplateLoading(templateDir);
 		configuration.setDefaultEncoding("UTF-8");
 		configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+		configuration.setTemplateUpdateDelayMilliseconds(0); // check modification time of the template file on every call
+		configuration.setLocalizedLookup(false);
 		return configuration;
 	}
 
+	/**
+	 * Data model of one template call. The maps are searched in the given order.
+	 */
+	private static class DataModel implements TemplateHashModel {
+
+		private final ObjectWrapper objectWrapper;
+		private final Map<String, Object>[] maps;
+
+		@SafeVarargs
+		private DataModel(ObjectWrapper objectWrapper, Map<String, Object>... maps) {
+			this.objectWrapper = objectWrapper;
+			this.maps = maps;
+		}
+
+		@Override
+		public TemplateModel get(String key) throws TemplateModelException {
+			for (Map<String, Object> map : maps) {
+				if (map.containsKey(key))
+					return objectWrapper.wrap(map.get(key));
+			}
+			return null;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return false;
+		}
+
+	}
+
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.incremental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.contextmapper.dsl.generator.streaming.StreamingFileSystemAccess;
+import org.contextmapper.dsl.generator.streaming.TextContent;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+
+/**
+ * File system access for incremental generation. It wraps the file system
+ * access of the output directory and keeps a manifest ({@value #MANIFEST_FILE})
+ * with the input fingerprint and the content hash of every generated file:
+ *
+ * <ul>
+ * <li>Generators ask with {@link #isUpToDate(String, String)} whether the
+ * input of an artifact changed before they create it (see
+ * {@link #generateFile(IFileSystemAccess2, String, ModelFingerprint, TextContent)}).
+ * An artifact is up to date if its fingerprint did not change and the existing
+ * file still has the content written by the last generation.</li>
+ * <li>Files whose content did not change are not rewritten (even if the
+ * generator did not provide a fingerprint). Binary files and files that are
+ * streamed into a {@link StreamingFileSystemAccess} are always written.</li>
+ * </ul>
+ *
+ * Call {@link #saveManifest()} after the generators ran. Only files of the
+ * default output configuration are tracked.
+ *
+ * Incremental generation is opt-in: the standalone API enables it per
+ * instance, the IDE and Eclipse commands if the system property
+ * {@value #INCREMENTAL_GENERATION_PROPERTY} is set to true.
+ *
+ * @author agent
+ */
+public class IncrementalFileSystemAccess implements IFileSystemAccess2, StreamingFileSystemAccess {
+
+	public static final String MANIFEST_FILE = ".cml-generation-manifest";
+	public static final String INCREMENTAL_GENERATION_PROPERTY = "org.contextmapper.incrementalGeneration";
+
+	private static final String MANIFEST_HEADER = "# Context Mapper generation manifest (file, input fingerprint, content hash)";
+	private static final String NO_FINGERPRINT = "-";
+
+	private final IFileSystemAccess2 delegate;
+	private final Map<String, ManifestEntry> manifest = new TreeMap<>();
+	private final Map<String, String> pendingFingerprints = new TreeMap<>();
+	private final String originalManifest;
+
+	public IncrementalFileSystemAccess(IFileSystemAccess2 delegate) {
+		this.delegate = delegate;
+		this.originalManifest = readFile(MANIFEST_FILE);
+		if (originalManifest != null)
+			parseManifest(originalManifest);
+	}
+
+	/**
+	 * Returns true if incremental generation has been enabled with the system
+	 * property {@value #INCREMENTAL_GENERATION_PROPERTY}.
+	 */
+	public static boolean isEnabledBySystemProperty() {
+		return Boolean.getBoolean(INCREMENTAL_GENERATION_PROPERTY);
+	}
+
+	/**
+	 * Writes a text file, unless the file system access is an
+	 * {@link IncrementalFileSystemAccess} and the file is up to date. The
+	 * content is only created if the file is written.
+	 */
+	public static void generateFile(IFileSystemAccess2 fsa, String fileName, ModelFingerprint fingerprint, TextContent content) {
+		if (fsa instanceof IncrementalFileSystemAccess && ((IncrementalFileSystemAccess) fsa).isUpToDate(fileName, fingerprint.getValue()))
+			return;
+		StreamingFileSystemAccess.generateFile(fsa, fileName, content);
+	}
+
+	/**
+	 * Checks whether the given file is up to date. If not, the fingerprint is
+	 * stored in the manifest as soon as the file is generated.
+	 *
+	 * @param fileName    the file (in the default output configuration)
+	 * @param fingerprint the fingerprint of the file's input (null if unknown)
+	 * @return true, if the file does not have to be generated again
+	 */
+	public synchronized boolean isUpToDate(String fileName, String fingerprint) {
+		ManifestEntry entry = manifest.get(fileName);
+		if (fingerprint != null && entry != null && fingerprint.equals(entry.fingerprint) && entry.contentHash.equals(hashExistingFile(fileName)))
+			return true;
+		pendingFingerprints.put(fileName, fingerprint);
+		return false;
+	}
+
+	/**
+	 * Writes the manifest into the output directory (if it changed).
+	 */
+	public synchronized void saveManifest() {
+		StringBuilder sb = new StringBuilder(MANIFEST_HEADER).append("\n");
+		for (Map.Entry<String, ManifestEntry> entry : manifest.entrySet())
+			sb.append(entry.getKey()).append("\t").append(entry.getValue().fingerprint).append("\t").append(entry.getValue().contentHash).append("\n");
+		String newManifest = sb.toString();
+		if (!newManifest.equals(originalManifest))
+			delegate.generateFile(MANIFEST_FILE, newManifest);
+	}
+
+	/**
+	 * Writes the file, unless it already has the given content. The content hash
+	 * is calculated from the file, since the delegate determines the encoding
+	 * (and may post-process the text).
+	 */
+	@Override
+	public synchronized void generateFile(String fileName, CharSequence contents) {
+		if (!hasContent(fileName, contents))
+			delegate.generateFile(fileName, contents);
+		updateManifestFromFile(fileName);
+	}
+
+	/**
+	 * Streams the binary file into the delegate (without buffering it). The
+	 * content hash is calculated from the streamed bytes.
+	 */
+	@Override
+	public synchronized void generateFile(String fileName, InputStream content) throws RuntimeIOException {
+		HashingInputStream hashingContent = new HashingInputStream(Hashing.sha256(), content);
+		delegate.generateFile(fileName, hashingContent);
+		updateManifest(fileName, hashingContent.hash().toString());
+	}
+
+	/**
+	 * Streams the file into the delegate, if the delegate supports it. The content
+	 * hash is calculated from the written file afterwards.
+	 */
+	@Override
+	public void generateFile(String fileName, TextContent content) throws RuntimeIOException {
+		if (!(delegate instanceof StreamingFileSystemAccess)) {
+			generateFile(fileName, TextContent.asString(content));
+			return;
+		}
+		((StreamingFileSystemAccess) delegate).generateFile(fileName, content);
+		synchronized (this) {
+			updateManifestFromFile(fileName);
+		}
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputConfigurationName, CharSequence contents) {
+		if (IFileSystemAccess.DEFAULT_OUTPUT.equals(outputConfigurationName))
+			generateFile(fileName, contents);
+		else
+			delegate.generateFile(fileName, outputConfigurationName, contents);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputCfgName, InputStream content) throws RuntimeIOException {
+		if (IFileSystemAccess.DEFAULT_OUTPUT.equals(outputCfgName))
+			generateFile(fileName, content);
+		else
+			delegate.generateFile(fileName, outputCfgName, content);
+	}
+
+	@Override
+	public synchronized void deleteFile(String fileName) {
+		manifest.remove(fileName);
+		delegate.deleteFile(fileName);
+	}
+
+	@Override
+	public void deleteFile(String fileName, String outputConfigurationName) {
+		if (IFileSystemAccess.DEFAULT_OUTPUT.equals(outputConfigurationName))
+			deleteFile(fileName);
+		else
+			delegate.deleteFile(fileName, outputConfigurationName);
+	}
+
+	@Override
+	public URI getURI(String path, String outputConfiguration) {
+		return delegate.getURI(path, outputConfiguration);
+	}
+
+	@Override
+	public URI getURI(String path) {
+		return delegate.getURI(path);
+	}
+
+	@Override
+	public InputStream readBinaryFile(String fileName, String outputCfgName) throws RuntimeIOException {
+		return delegate.readBinaryFile(fileName, outputCfgName);
+	}
+
+	@Override
+	public InputStream readBinaryFile(String fileName) throws RuntimeIOException {
+		return delegate.readBinaryFile(fileName);
+	}
+
+	@Override
+	public CharSequence readTextFile(String fileName, String outputCfgName) throws RuntimeIOException {
+		return delegate.readTextFile(fileName, outputCfgName);
+	}
+
+	@Override
+	public CharSequence readTextFile(String fileName) throws RuntimeIOException {
+		return delegate.readTextFile(fileName);
+	}
+
+	@Override
+	public boolean isFile(String path, String outputConfigurationName) throws RuntimeIOException {
+		return delegate.isFile(path, outputConfigurationName);
+	}
+
+	@Override
+	public boolean isFile(String path) throws RuntimeIOException {
+		return delegate.isFile(path);
+	}
+
+	private boolean hasContent(String fileName, CharSequence contents) {
+		try {
+			return delegate.isFile(fileName) && delegate.readTextFile(fileName).toString().contentEquals(contents);
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private void updateManifest(String fileName, String contentHash) {
+		String fingerprint = pendingFingerprints.remove(fileName);
+		manifest.put(fileName, new ManifestEntry(fingerprint != null ? fingerprint : NO_FINGERPRINT, contentHash));
+	}
+
+	private void updateManifestFromFile(String fileName) {
+		String contentHash = hashExistingFile(fileName);
+		if (contentHash != null) {
+			updateManifest(fileName, contentHash);
+		} else {
+			manifest.remove(fileName);
+			pendingFingerprints.remove(fileName);
+		}
+	}
+
+	private String hashExistingFile(String fileName) {
+		try {
+			if (!delegate.isFile(fileName))
+				return null;
+			try (HashingInputStream inputStream = new HashingInputStream(Hashing.sha256(), delegate.readBinaryFile(fileName))) {
+				ByteStreams.exhaust(inputStream);
+				return inputStream.hash().toString();
+			}
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private String readFile(String fileName) {
+		try {
+			return delegate.isFile(fileName) ? delegate.readTextFile(fileName).toString() : null;
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private void parseManifest(String content) {
+		for (String line : content.split("\n")) {
+			String[] columns = line.split("\t");
+			if (line.startsWith("#") || columns.length != 3)
+				continue;
+			manifest.put(columns[0], new ManifestEntry(columns[1], columns[2]));
+		}
+	}
+
+	private static class ManifestEntry {
+		private final String fingerprint;
+		private final String contentHash;
+
+		private ManifestEntry(String fingerprint, String contentHash) {
+			this.fingerprint = fingerprint;
+			this.contentHash = contentHash;
+		}
+	}
+
+}
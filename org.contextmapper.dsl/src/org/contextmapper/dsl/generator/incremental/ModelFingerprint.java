@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.incremental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.cml.CMLImportResolver;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Fingerprint of the input of a generated artifact: the generator, its options
+ * and the model elements the artifact is generated from. An input element
+ * contributes its CML text (including all contained elements), the CML text
+ * of all elements it references directly and the CML text of all files which
+ * are (transitively) imported by its file.
+ *
+ * The generator is identified by its name, the version of the package and a
+ * hash of its class file, so that artifacts are generated again if the
+ * generator changes (also in development builds without package version).
+ *
+ * The fingerprint is computed lazily (only if an
+ * {@link IncrementalFileSystemAccess} asks for it). If an input element has no
+ * node model (model created in memory) or its resource has been modified after
+ * parsing, there is no reliable fingerprint and {@link #getValue()} returns
+ * null; the artifact is generated in this case.
+ *
+ * @author agent
+ */
+public class ModelFingerprint {
+
+	private static final String FINGERPRINT_FORMAT_VERSION = "2";
+
+	private static final Map<Class<?>, String> GENERATOR_IDENTITIES = new ConcurrentHashMap<>();
+
+	private final Class<?> generator;
+	private final List<EObject> inputs = Lists.newArrayList();
+	private final List<String> options = Lists.newArrayList();
+
+	public ModelFingerprint(Class<?> generator, EObject... inputs) {
+		this.generator = generator;
+		for (EObject input : inputs)
+			this.inputs.add(input);
+	}
+
+	/**
+	 * Adds a generator option (or any other value the artifact depends on).
+	 */
+	public ModelFingerprint addOption(Object option) {
+		options.add(String.valueOf(option));
+		return this;
+	}
+
+	/**
+	 * Calculates the fingerprint.
+	 *
+	 * @return the fingerprint, or null if the inputs cannot be fingerprinted
+	 */
+	public String getValue() {
+		Hasher hasher = Hashing.sha256().newHasher();
+		putString(hasher, FINGERPRINT_FORMAT_VERSION);
+		putString(hasher, GENERATOR_IDENTITIES.computeIfAbsent(generator, ModelFingerprint::getGeneratorIdentity));
+		for (String option : options)
+			putString(hasher, option);
+		for (EObject input : inputs) {
+			if (input == null) {
+				putString(hasher, "null");
+				continue;
+			}
+			if (!putText(hasher, input))
+				return null;
+			for (EObject referencedObject : getReferencedObjects(input)) {
+				putString(hasher, EcoreUtil.getURI(referencedObject).toString());
+				if (!putText(hasher, referencedObject))
+					return null;
+			}
+		}
+		List<Resource> importedResources = getImportedResources();
+		if (importedResources == null)
+			return null;
+		for (Resource importedResource : importedResources) {
+			putString(hasher, importedResource.getURI().toString());
+			if (!putText(hasher, importedResource.getContents().get(0)))
+				return null;
+		}
+		return hasher.hash().toString();
+	}
+
+	private static String getGeneratorIdentity(Class<?> generator) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putString(generator.getName(), Charsets.UTF_8).putByte((byte) 0);
+		hasher.putString(String.valueOf(generator.getPackage() != null ? generator.getPackage().getImplementationVersion() : null), Charsets.UTF_8).putByte((byte) 0);
+		try (InputStream classFile = generator.getResourceAsStream(generator.getSimpleName() + ".class")) {
+			if (classFile != null)
+				hasher.putBytes(ByteStreams.toByteArray(classFile));
+		} catch (IOException e) {
+			// the generator is identified by name and version only
+		}
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * Returns the files (transitively) imported by the files of the inputs, sorted
+	 * by URI, or null if the imports of a file cannot be resolved (file without
+	 * resource set).
+	 */
+	private List<Resource> getImportedResources() {
+		Set<Resource> inputResources = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (EObject input : inputs) {
+			if (input != null && input.eResource() != null && !input.eResource().getContents().isEmpty()
+					&& input.eResource().getContents().get(0) instanceof ContextMappingModel)
+				inputResources.add(input.eResource());
+		}
+		Set<Resource> importedResources = Collections.newSetFromMap(new IdentityHashMap<>());
+		CMLImportResolver importResolver = new CMLImportResolver();
+		for (Resource inputResource : inputResources) {
+			if (inputResource.getResourceSet() == null && !((ContextMappingModel) inputResource.getContents().get(0)).getImports().isEmpty())
+				return null;
+			for (CMLResource importedResource : importResolver.resolveTransitivelyImportedResources(new CMLResource(inputResource)))
+				importedResources.add(importedResource.getContents().get(0).eResource());
+		}
+		importedResources.removeAll(inputResources);
+		return importedResources.stream().sorted(Comparator.comparing(r -> r.getURI().toString())).collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the objects referenced from within the input (but not contained in
+	 * it), in the (deterministic) order of the document.
+	 */
+	private List<EObject> getReferencedObjects(EObject input) {
+		Set<EObject> referencedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<EObject> orderedObjects = Lists.newArrayList();
+		addReferencedObjects(input, input, referencedObjects, orderedObjects);
+		for (Iterator<EObject> iterator = input.eAllContents(); iterator.hasNext();)
+			addReferencedObjects(input, iterator.next(), referencedObjects, orderedObjects);
+		return orderedObjects;
+	}
+
+	private void addReferencedObjects(EObject input, EObject object, Set<EObject> referencedObjects, List<EObject> orderedObjects) {
+		for (EObject referencedObject : object.eCrossReferences()) {
+			if (EcoreUtil.isAncestor(input, referencedObject) || !referencedObjects.add(referencedObject))
+				continue;
+			orderedObjects.add(referencedObject);
+		}
+	}
+
+	private boolean putText(Hasher hasher, EObject object) {
+		Resource resource = object.eResource();
+		if (object.eIsProxy() || resource == null || (resource.isTrackingModification() && resource.isModified()))
+			return false;
+		ICompositeNode node = NodeModelUtils.getNode(object);
+		if (node == null)
+			return false;
+		putString(hasher, node.getText());
+		return true;
+	}
+
+	private void putString(Hasher hasher, String value) {
+		hasher.putString(value, Charsets.UTF_8).putByte((byte) 0);
+	}
+
+}
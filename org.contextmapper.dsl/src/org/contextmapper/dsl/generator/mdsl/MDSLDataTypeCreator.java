@@ -46,10 +46,20 @@ public class MDSLDataTypeCreator {
 
 	private Map<String, DataType> dataTypeMapping;
 	private MDSLNameEncoder mdslNameEncoder;
+	private Map<CommandEvent, String> commandTypeNames;
 
 	public MDSLDataTypeCreator() {
+		this(Maps.newHashMap());
+	}
+
+	/**
+	 * @param commandTypeNames the names of the data types of commands, if they
+	 *                         differ from the names of the commands
+	 */
+	public MDSLDataTypeCreator(Map<CommandEvent, String> commandTypeNames) {
 		dataTypeMapping = Maps.newTreeMap();
 		mdslNameEncoder = new MDSLNameEncoder();
+		this.commandTypeNames = commandTypeNames;
 	}
 
 	public DataType createMDSLDataType(ComplexType type) {
@@ -108,7 +118,9 @@ public class MDSLDataTypeCreator {
 
 	private String getDataTypeName(ComplexType type) {
 		String dataTypeName = type.getType();
-		if (type.getDomainObjectType() != null) {
+		if (type.getDomainObjectType() != null && commandTypeNames.containsKey(type.getDomainObjectType())) {
+			dataTypeName = commandTypeNames.get(type.getDomainObjectType());
+		} else if (type.getDomainObjectType() != null) {
 			dataTypeName = type.getDomainObjectType().getName();
 		}
 		return dataTypeName;
@@ -16,9 +16,11 @@
 package org.contextmapper.dsl.generator.mdsl;
 
 import java.security.InvalidParameterException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -77,6 +79,7 @@ public class MDSLModelCreator {
 	private static final String API_NAME_EXTENSION = "API";
 	private static final String PROVIDER_NAME_EXTENSION = "Provider";
 	private static final String CLIENT_NAME_EXTENSION = "Client";
+	private static final String COMMAND_NAME_EXTENSION = "Command";
 	private static final String MDSL_VOID_RETURN_TYPE = "D<void>";
 	private static final String ENDPOINT_LOCATION = "http://localhost:";
 	private static final String PROTOCOL_STRING_IF_NOT_DEFINED = "tbd";
@@ -86,18 +89,38 @@ public class MDSLModelCreator {
 	private int initialPort = 8000;
 	private MDSLDataTypeCreator dataTypeCreator;
 	private MDSLNameEncoder mdslEncoder;
+	private boolean dataTypesPerSpecification = false;
+	private Map<CommandEvent, String> commandTypeNames = Maps.newHashMap();
 
 	public MDSLModelCreator(ContextMappingModel model) {
 		this.model = model;
-		this.dataTypeCreator = new MDSLDataTypeCreator();
+		this.dataTypeCreator = new MDSLDataTypeCreator(commandTypeNames);
 		this.mdslEncoder = new MDSLNameEncoder();
 	}
 
+	/**
+	 * Defines whether every service specification only contains the data types
+	 * it uses (default: false; a specification contains the data types of all
+	 * specifications that have been created before).
+	 */
+	public void setDataTypesPerSpecification(boolean dataTypesPerSpecification) {
+		this.dataTypesPerSpecification = dataTypesPerSpecification;
+	}
+
+	/**
+	 * Returns the names of the service specifications that
+	 * {@link #createServiceSpecifications()} creates (without creating them).
+	 */
+	public List<String> getServiceSpecificationNames() {
+		return collectUpstreamContexts().values().stream().map(context -> mdslEncoder.encodeName(context.getApiName())).collect(Collectors.toList());
+	}
+
 	public List<ServiceSpecification> createServiceSpecifications() {
 		checkPreconditions();
 
 		List<ServiceSpecification> specs = Lists.newArrayList();
 		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
+		collectCommandTypeNames(upstreamContexts.values());
 		for (String apiName : upstreamContexts.keySet()) {
 			UpstreamAPIContext context = upstreamContexts.get(apiName);
 			specs.add(createServiceSpecification(context.getApiName(), context));
@@ -106,8 +129,30 @@ public class MDSLModelCreator {
 		return specs;
 	}
 
+	/**
+	 * The commands of the application layers are offered as command types with
+	 * the suffix "Command". The names are only mapped here; the model must not be
+	 * changed by the generator (it may be shared with other generators).
+	 */
+	private void collectCommandTypeNames(Collection<UpstreamAPIContext> upstreamContexts) {
+		for (UpstreamAPIContext context : upstreamContexts) {
+			if (context.getApplicationLayer() == null)
+				continue;
+			for (CommandEvent command : context.getApplicationLayer().getCommands()) {
+				String name = command.getName();
+				commandTypeNames.put(command, name.endsWith(COMMAND_NAME_EXTENSION) ? name : name + COMMAND_NAME_EXTENSION);
+			}
+		}
+	}
+
+	private String getCommandTypeName(CommandEvent command) {
+		return commandTypeNames.containsKey(command) ? commandTypeNames.get(command) : command.getName();
+	}
+
 	private ServiceSpecification createServiceSpecification(String apiName, UpstreamAPIContext context) {
-				
+		if (dataTypesPerSpecification)
+			dataTypeCreator = new MDSLDataTypeCreator(commandTypeNames);
+
 		ServiceSpecification specification = new ServiceSpecification();
 		specification.setName(mdslEncoder.encodeName(apiName));
 
@@ -140,7 +185,7 @@ public class MDSLModelCreator {
 			}
 			
 			for(CommandEvent ce:context.getApplicationLayer().getCommands()) {
-				specification.addCommandType(ce.getName());
+				specification.addCommandType(getCommandTypeName(ce));
 			}
 			EList<Flow> flows = context.getApplicationLayer().getFlows();
 			for(Flow cmlFlow : flows) {
@@ -182,34 +227,34 @@ public class MDSLModelCreator {
 						commands += "-";
 						first=false;
 					}
-					commands += ce.getName();
+					commands += getCommandTypeName(ce);
 				}
 				mdslFlow.addCommandInvocationStep(andEvents, commands); 
 			} else if(ecooi instanceof ConcurrentCommandInvokation) {
 				ConcurrentCommandInvokation cci = (ConcurrentCommandInvokation) ecooi; 
 				EList<CommandEvent> commands = cci.getCommands();
 				String andEvents = combineEvents(events, " + ");
-				String andCommands = commands.get(0).getName();
+				String andCommands = getCommandTypeName(commands.get(0));
 				for(int i=1; i<commands.size();i++) {
-					andCommands += " + " + commands.get(i).getName();
+					andCommands += " + " + getCommandTypeName(commands.get(i));
 				}
 				mdslFlow.addCommandInvocationStep(andEvents, andCommands); 
 			} else if(ecooi instanceof ExclusiveAlternativeCommandInvokation){
 				ExclusiveAlternativeCommandInvokation eaci = (ExclusiveAlternativeCommandInvokation) ecooi; 
 				EList<CommandEvent> commands =eaci.getCommands();
 				String xorEvents = combineEvents(events, " + ");
-				String xorCommands = commands.get(0).getName();
+				String xorCommands = getCommandTypeName(commands.get(0));
 				for(int i=1; i<commands.size();i++) {
-					xorCommands += " x " + commands.get(i).getName();
+					xorCommands += " x " + getCommandTypeName(commands.get(i));
 				}
 				mdslFlow.addCommandInvocationStep(xorEvents, xorCommands);
 			} else if(ecooi instanceof InclusiveAlternativeCommandInvokation){
 				InclusiveAlternativeCommandInvokation eaci = (InclusiveAlternativeCommandInvokation) ecooi; 
 				EList<CommandEvent> commands =eaci.getCommands();
 				String orEvents = combineEvents(events, " + "); 
-				String orCommands = commands.get(0).getName();
+				String orCommands = getCommandTypeName(commands.get(0));
 				for(int i=1; i<commands.size();i++) {
-					orCommands += " o " + commands.get(i).getName();
+					orCommands += " o " + getCommandTypeName(commands.get(i));
 				}
 				mdslFlow.addCommandInvocationStep(orEvents, orCommands);
 			} else {
@@ -229,16 +274,16 @@ public class MDSLModelCreator {
 				// we can only have one entry, so just in case: 
 				if(events.size()!=1) 
 					throw new InvalidParameterException("Single event production must not list more than one event.");
-				mdslFlow.addEventProductionStep(action.getCommand().getName(), events.get(0).getName()); 
+				mdslFlow.addEventProductionStep(getCommandTypeName(action.getCommand()), events.get(0).getName()); 
 			} else if(ep instanceof MultipleEventProduction) {
 				String andEvents = mapEvents(action, ep, " + ");
-				mdslFlow.addEventProductionStep(action.getCommand().getName(), andEvents); 
+				mdslFlow.addEventProductionStep(getCommandTypeName(action.getCommand()), andEvents); 
 			} else if(ep instanceof InclusiveAlternativeEventProduction) {
 				String orEvents = mapEvents(action, ep, " o ");
-				mdslFlow.addEventProductionStep(action.getCommand().getName(), orEvents); 
+				mdslFlow.addEventProductionStep(getCommandTypeName(action.getCommand()), orEvents); 
 			} else if(ep instanceof ExclusiveAlternativeEventProduction) {
 				String xorEvents = mapEvents(action, ep, " x ");
-				mdslFlow.addEventProductionStep(action.getCommand().getName(), xorEvents); 
+				mdslFlow.addEventProductionStep(getCommandTypeName(action.getCommand()), xorEvents); 
 			} else {
 				throw new GeneratorInputException("Not yet implemented: support for " + ep.getClass());
 			}
@@ -337,8 +382,6 @@ public class MDSLModelCreator {
 		Parameter parameter = TacticdslFactory.eINSTANCE.createParameter();
 		parameter.setName(name + "Parameter");
 		ComplexType type = TacticdslFactory.eINSTANCE.createComplexType();
-		if (!command.getName().endsWith("Command"))
-			command.setName(command.getName() + "Command");
 		type.setDomainObjectType(command);
 		parameter.setParameterType(type);
 		List<Parameter> parameters = Lists.newArrayList();
@@ -445,8 +488,9 @@ public class MDSLModelCreator {
 				upstreamContextMap.put(upstreamAPIName, context);
 			}
 			context.getUpstreamRoles().addAll(relationship.getUpstreamRoles());
+			Set<String> exposedAggregateNames = context.getExposedAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toSet());
 			for (Aggregate exposedAggregate : relationship.getUpstreamExposedAggregates()) {
-				if (!context.getExposedAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toList()).contains(exposedAggregate.getName()))
+				if (exposedAggregateNames.add(exposedAggregate.getName()))
 					context.getExposedAggregates().add(exposedAggregate);
 			}
 			if (relationship.getUpstream().getApplication() != null)
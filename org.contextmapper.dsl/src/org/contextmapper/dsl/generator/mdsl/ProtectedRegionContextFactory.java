@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.util.Map;
+
 public class ProtectedRegionContextFactory {
 
 	public ProtectedRegionContext createProtectedRegionContextForNewMDSLFile() {
@@ -26,14 +28,15 @@ public class ProtectedRegionContextFactory {
 		return context;
 	}
 
-	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(String fileContent) {
+	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(CharSequence fileContent) {
 		ProtectedRegionContext context = new ProtectedRegionContext();
 		ProtectedRegionReader reader = new ProtectedRegionReader();
 
-		String protectedSectionDataTypes = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.DATA_TYPE_REGION);
-		String protectedSectionEndpoints = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.ENDPOINT_REGION);
-		String protectedSectionProviders = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.PROVIDER_REGION);
-		String protectedSectionClient = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.CLIENT_REGION);
+		Map<ProtectedRegionIdentifier, String> protectedSections = reader.getProtectedRegionContents(fileContent);
+		String protectedSectionDataTypes = protectedSections.get(ProtectedRegionIdentifier.DATA_TYPE_REGION);
+		String protectedSectionEndpoints = protectedSections.get(ProtectedRegionIdentifier.ENDPOINT_REGION);
+		String protectedSectionProviders = protectedSections.get(ProtectedRegionIdentifier.PROVIDER_REGION);
+		String protectedSectionClient = protectedSections.get(ProtectedRegionIdentifier.CLIENT_REGION);
 
 		context.setProtectedDataTypeRegion(protectedSectionDataTypes);
 		context.setProtectedEndpointRegion(protectedSectionEndpoints);
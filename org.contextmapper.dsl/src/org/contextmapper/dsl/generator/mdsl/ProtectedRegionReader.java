@@ -15,10 +15,17 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 /**
@@ -29,6 +36,43 @@ import com.google.common.collect.Sets;
  */
 public class ProtectedRegionReader {
 
+	private static final String REGION_START_PREFIX = "// ** BEGIN PROTECTED REGION for ";
+	private static final Pattern REGION_MARKER_PATTERN = Pattern.compile("// \\*\\* (BEGIN|END) PROTECTED REGION for ("
+			+ Stream.of(ProtectedRegionIdentifier.values()).map(id -> Pattern.quote(id.toString())).collect(Collectors.joining("|")) + ")");
+	private static final Pattern LINE_SEPARATOR_PATTERN = Pattern.compile("\\r?\\n");
+	private static final Map<ProtectedRegionIdentifier, Pattern> IDENTIFIER_PATTERNS = createIdentifierPatterns();
+	private static final Map<String, ProtectedRegionIdentifier> REGION_IDENTIFIERS = Maps.uniqueIndex(Sets.newHashSet(ProtectedRegionIdentifier.values()),
+			ProtectedRegionIdentifier::toString);
+
+	/**
+	 * Reads the content of all protected regions of an MDSL file in one pass.
+	 * 
+	 * @param mdslInput the MDSL file content
+	 * @return the content of every protected region contained in the file
+	 */
+	public Map<ProtectedRegionIdentifier, String> getProtectedRegionContents(CharSequence mdslInput) {
+		Map<ProtectedRegionIdentifier, Integer> regionStarts = new EnumMap<>(ProtectedRegionIdentifier.class);
+		Map<ProtectedRegionIdentifier, Integer> regionEnds = new EnumMap<>(ProtectedRegionIdentifier.class);
+		Matcher matcher = REGION_MARKER_PATTERN.matcher(mdslInput);
+		while (matcher.find()) {
+			ProtectedRegionIdentifier regionIdentifier = REGION_IDENTIFIERS.get(matcher.group(2));
+			if ("BEGIN".equals(matcher.group(1)))
+				regionStarts.putIfAbsent(regionIdentifier, matcher.end());
+			else
+				regionEnds.put(regionIdentifier, matcher.start());
+		}
+
+		Map<ProtectedRegionIdentifier, String> regions = new EnumMap<>(ProtectedRegionIdentifier.class);
+		for (Map.Entry<ProtectedRegionIdentifier, Integer> regionStart : regionStarts.entrySet()) {
+			int start = regionStart.getValue() + System.lineSeparator().length();
+			Integer regionEnd = regionEnds.get(regionStart.getKey());
+			if (regionEnd == null || regionEnd - System.lineSeparator().length() < start)
+				throw new GeneratorInputException("The protected region for " + regionStart.getKey() + " in the existing MDSL file is not closed.");
+			regions.put(regionStart.getKey(), mdslInput.subSequence(start, regionEnd - System.lineSeparator().length()).toString());
+		}
+		return regions;
+	}
+
 	public String getProtectedRegionContent(String mdslInput, ProtectedRegionIdentifier regionIdentifier) {
 		String regionStartString = getRegionStartString(regionIdentifier);
 		if (containsProtectedRegion(mdslInput, regionIdentifier))
@@ -38,15 +82,14 @@ public class ProtectedRegionReader {
 	}
 
 	public boolean containsProtectedRegion(String mdslInput, ProtectedRegionIdentifier regionIdentifier) {
-		String regionStartString = getRegionStartString(regionIdentifier);
-		return mdslInput.indexOf(regionStartString) > -1;
+		return mdslInput.indexOf(getRegionStartString(regionIdentifier)) > -1;
 	}
 
 	public Set<String> getIdentifiersInProtectedRegion(String protectedRegion, ProtectedRegionIdentifier regionIdentifier) {
 		Set<String> ids = Sets.newHashSet();
-		for (String line : protectedRegion.split("\\r?\\n")) {
-			Pattern pattern = Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$");
-			Matcher matcher = pattern.matcher(line);
+		Matcher matcher = IDENTIFIER_PATTERNS.get(regionIdentifier).matcher("");
+		for (String line : LINE_SEPARATOR_PATTERN.split(protectedRegion)) {
+			matcher.reset(line);
 			while (matcher.find()) {
 				ids.add(matcher.group(1));
 			}
@@ -55,14 +98,21 @@ public class ProtectedRegionReader {
 	}
 
 	private String getRegionStartString(ProtectedRegionIdentifier regionIdentifier) {
-		return "// ** BEGIN PROTECTED REGION for " + regionIdentifier.toString();
+		return REGION_START_PREFIX + regionIdentifier.toString();
 	}
 
 	private String getRegionEndString(ProtectedRegionIdentifier regionIdentifier) {
 		return "// ** END PROTECTED REGION for " + regionIdentifier.toString();
 	}
 
-	private String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
+	private static Map<ProtectedRegionIdentifier, Pattern> createIdentifierPatterns() {
+		Map<ProtectedRegionIdentifier, Pattern> patterns = new EnumMap<>(ProtectedRegionIdentifier.class);
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values())
+			patterns.put(regionIdentifier, Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$"));
+		return patterns;
+	}
+
+	private static String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
 		switch (regionIdentifier) {
 		case DATA_TYPE_REGION:
 			return "data type";
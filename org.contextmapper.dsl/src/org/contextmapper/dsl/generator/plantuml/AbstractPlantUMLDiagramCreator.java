@@ -15,11 +15,18 @@
  */
 package org.contextmapper.dsl.generator.plantuml;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
 import org.eclipse.emf.ecore.EObject;
 
 public abstract class AbstractPlantUMLDiagramCreator<T extends EObject> implements PlantUMLDiagramCreator<T> {
 
+	private static final int FLUSH_THRESHOLD = 8192;
+
 	protected StringBuilder sb;
+	private Writer writer;
 
 	public AbstractPlantUMLDiagramCreator() {
 		this.sb = new StringBuilder();
@@ -33,6 +40,26 @@ public abstract class AbstractPlantUMLDiagramCreator<T extends EObject> implemen
 		return sb.toString();
 	}
 
+	/**
+	 * Writes the diagram into the given writer. The buffer ({@link #sb}) is
+	 * flushed into the writer at line breaks, so that the diagram is never kept
+	 * in memory completely.
+	 */
+	@Override
+	public void createDiagram(T modelObject, Writer writer) throws IOException {
+		this.writer = writer;
+		try {
+			printHeader();
+			printDiagramContent(modelObject);
+			printFooter();
+			flush();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			this.writer = null;
+		}
+	}
+
 	/*
 	 * Override this method to print diagram content
 	 */
@@ -53,6 +80,17 @@ public abstract class AbstractPlantUMLDiagramCreator<T extends EObject> implemen
 
 	protected void linebreak() {
 		sb.append(System.lineSeparator());
+		if (writer != null && sb.length() >= FLUSH_THRESHOLD)
+			flush();
+	}
+
+	private void flush() {
+		try {
+			writer.append(sb);
+			sb.setLength(0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	protected void linebreak(int amount) {
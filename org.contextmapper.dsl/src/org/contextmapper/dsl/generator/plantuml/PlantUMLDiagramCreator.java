@@ -15,10 +15,21 @@
  */
 package org.contextmapper.dsl.generator.plantuml;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.eclipse.emf.ecore.EObject;
 
 public interface PlantUMLDiagramCreator<T extends EObject> {
 
 	public String createDiagram(T modelObject);
 
+	/**
+	 * Writes the diagram into the given writer (instead of creating it in
+	 * memory).
+	 */
+	public default void createDiagram(T modelObject, Writer writer) throws IOException {
+		writer.write(createDiagram(modelObject));
+	}
+
 }
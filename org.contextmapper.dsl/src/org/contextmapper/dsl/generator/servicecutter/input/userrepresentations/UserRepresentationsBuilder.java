@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
+import org.contextmapper.dsl.cml.CMLTypeIndex;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
@@ -36,7 +37,6 @@ import org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.Service
 import org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.SharedOwnerGroup;
 import org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.UseCase;
 import org.contextmapper.tactic.dsl.tacticdsl.Entity;
-import org.eclipse.xtext.EcoreUtil2;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -115,7 +115,7 @@ public class UserRepresentationsBuilder {
 
 	private void buildEntities() {
 		model.getEntities().clear();
-		for (Entity entity : EcoreUtil2.eAllOfType(contextMappingModel, Entity.class)) {
+		for (Entity entity : CMLTypeIndex.getIndex(contextMappingModel).getObjectsOfType(Entity.class)) {
 			org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.Entity scEntity = factory.createEntity();
 			scEntity.setName(entity.getName());
 			scEntity.getNanoentities().addAll(nanoentityResolver.getAllNanoentities(entity));
@@ -13,15 +13,17 @@
  */
 package org.contextmapper.dsl.generator.sketchminer;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.BitSet;
 
 /**
  * This class is copied from https://github.com/rufushuang/lz-string4java.
  *
  * Copyright (c) 2016 rufushuang
+ * 
+ * The dictionary of the compressor has been changed into a trie (the phrases
+ * are identified by their codes) so that no strings are created per input
+ * character. The output is the same as the one of the original
+ * implementation.
  */
 public class LZString {
 
@@ -30,116 +32,51 @@ public class LZString {
 	public static String compressToEncodedURIComponent(String input) {
 		if (input == null)
 			return "";
-		return LZString._compress(input, 6, new CompressFunctionWrapper() {
-			@Override
-			public char doFunc(int a) {
-				return keyStrUriSafe[a];
-			}
-		});
-	}
-
-	private static abstract class CompressFunctionWrapper {
-		public abstract char doFunc(int i);
+		return LZString._compress(input, 6, keyStrUriSafe);
 	}
 
-	private static String _compress(String uncompressedStr, int bitsPerChar, CompressFunctionWrapper getCharFromInt) {
+	private static String _compress(String uncompressedStr, int bitsPerChar, char[] alphabet) {
 		if (uncompressedStr == null)
 			return "";
-		int i, value;
-		Map<String, Integer> context_dictionary = new HashMap<String, Integer>();
-		Set<String> context_dictionaryToCreate = new HashSet<String>();
-		String context_c = "";
-		String context_wc = "";
-		String context_w = "";
+		PhraseDictionary context_dictionary = new PhraseDictionary(uncompressedStr.length() / 4);
+		BitSet context_dictionaryToCreate = new BitSet();
+		BitWriter context_data = new BitWriter(uncompressedStr.length() / 3, bitsPerChar, alphabet);
+		int context_c;
+		int context_wc;
+		int context_w = PhraseDictionary.EMPTY_PHRASE;
+		char context_w_char = 0; // the character of w, if w is a single character
 		int context_enlargeIn = 2; // Compensate for the first entry which should not count
 		int context_dictSize = 3;
 		int context_numBits = 2;
-		StringBuilder context_data = new StringBuilder(uncompressedStr.length() / 3);
-		int context_data_val = 0;
-		int context_data_position = 0;
-		int ii;
 
-		for (ii = 0; ii < uncompressedStr.length(); ii += 1) {
-			context_c = String.valueOf(uncompressedStr.charAt(ii));
-			if (!context_dictionary.containsKey(context_c)) {
-				context_dictionary.put(context_c, context_dictSize++);
-				context_dictionaryToCreate.add(context_c);
+		for (int ii = 0; ii < uncompressedStr.length(); ii += 1) {
+			char c = uncompressedStr.charAt(ii);
+			context_c = context_dictionary.get(PhraseDictionary.EMPTY_PHRASE, c);
+			if (context_c == PhraseDictionary.NO_PHRASE) {
+				context_c = context_dictSize++;
+				context_dictionary.put(PhraseDictionary.EMPTY_PHRASE, c, context_c);
+				context_dictionaryToCreate.set(context_c);
 			}
 
-			context_wc = context_w + context_c;
-			if (context_dictionary.containsKey(context_wc)) {
+			if (context_w == PhraseDictionary.EMPTY_PHRASE) {
+				context_w = context_c;
+				context_w_char = c;
+				continue;
+			}
+			context_wc = context_dictionary.get(context_w, c);
+			if (context_wc != PhraseDictionary.NO_PHRASE) {
 				context_w = context_wc;
 			} else {
-				if (context_dictionaryToCreate.contains(context_w)) {
-					if (context_w.charAt(0) < 256) {
-						for (i = 0; i < context_numBits; i++) {
-							context_data_val = (context_data_val << 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-						}
-						value = context_w.charAt(0);
-						for (i = 0; i < 8; i++) {
-							context_data_val = (context_data_val << 1) | (value & 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = value >> 1;
-						}
-					} else {
-						value = 1;
-						for (i = 0; i < context_numBits; i++) {
-							context_data_val = (context_data_val << 1) | value;
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = 0;
-						}
-						value = context_w.charAt(0);
-						for (i = 0; i < 16; i++) {
-							context_data_val = (context_data_val << 1) | (value & 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = value >> 1;
-						}
-					}
+				if (context_dictionaryToCreate.get(context_w)) {
+					writeCharacter(context_data, context_w_char, context_numBits);
 					context_enlargeIn--;
 					if (context_enlargeIn == 0) {
 						context_enlargeIn = powerOf2(context_numBits);
 						context_numBits++;
 					}
-					context_dictionaryToCreate.remove(context_w);
+					context_dictionaryToCreate.clear(context_w);
 				} else {
-					value = context_dictionary.get(context_w);
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
-
+					context_data.write(context_w, context_numBits);
 				}
 				context_enlargeIn--;
 				if (context_enlargeIn == 0) {
@@ -147,83 +84,24 @@ public class LZString {
 					context_numBits++;
 				}
 				// Add wc to the dictionary.
-				context_dictionary.put(context_wc, context_dictSize++);
+				context_dictionary.put(context_w, c, context_dictSize++);
 				context_w = context_c;
+				context_w_char = c;
 			}
 		}
 
 		// Output the code for w.
-		if (!context_w.isEmpty()) {
-			if (context_dictionaryToCreate.contains(context_w)) {
-				if (context_w.charAt(0) < 256) {
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-					}
-					value = context_w.charAt(0);
-					for (i = 0; i < 8; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
-				} else {
-					value = 1;
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1) | value;
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = 0;
-					}
-					value = context_w.charAt(0);
-					for (i = 0; i < 16; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
-				}
+		if (context_w != PhraseDictionary.EMPTY_PHRASE) {
+			if (context_dictionaryToCreate.get(context_w)) {
+				writeCharacter(context_data, context_w_char, context_numBits);
 				context_enlargeIn--;
 				if (context_enlargeIn == 0) {
 					context_enlargeIn = powerOf2(context_numBits);
 					context_numBits++;
 				}
-				context_dictionaryToCreate.remove(context_w);
+				context_dictionaryToCreate.clear(context_w);
 			} else {
-				value = context_dictionary.get(context_w);
-				for (i = 0; i < context_numBits; i++) {
-					context_data_val = (context_data_val << 1) | (value & 1);
-					if (context_data_position == bitsPerChar - 1) {
-						context_data_position = 0;
-						context_data.append(getCharFromInt.doFunc(context_data_val));
-						context_data_val = 0;
-					} else {
-						context_data_position++;
-					}
-					value = value >> 1;
-				}
-
+				context_data.write(context_w, context_numBits);
 			}
 			context_enlargeIn--;
 			if (context_enlargeIn == 0) {
@@ -233,33 +111,144 @@ public class LZString {
 		}
 
 		// Mark the end of the stream
-		value = 2;
-		for (i = 0; i < context_numBits; i++) {
-			context_data_val = (context_data_val << 1) | (value & 1);
-			if (context_data_position == bitsPerChar - 1) {
-				context_data_position = 0;
-				context_data.append(getCharFromInt.doFunc(context_data_val));
-				context_data_val = 0;
-			} else {
-				context_data_position++;
-			}
-			value = value >> 1;
-		}
+		context_data.write(2, context_numBits);
 
 		// Flush the last char
-		while (true) {
-			context_data_val = (context_data_val << 1);
-			if (context_data_position == bitsPerChar - 1) {
-				context_data.append(getCharFromInt.doFunc(context_data_val));
-				break;
-			} else
-				context_data_position++;
+		return context_data.flush();
+	}
+
+	/**
+	 * Writes a character that is not in the dictionary yet: an 8-bit or a 16-bit
+	 * marker followed by the character.
+	 */
+	private static void writeCharacter(BitWriter data, char character, int numBits) {
+		if (character < 256) {
+			data.write(0, numBits);
+			data.write(character, 8);
+		} else {
+			data.write(1, numBits);
+			data.write(character, 16);
 		}
-		return context_data.toString();
 	}
 
 	private static int powerOf2(int power) {
 		return 1 << power;
 	}
 
+	/**
+	 * Writes values (least significant bit first) into characters of the given
+	 * alphabet.
+	 */
+	private static class BitWriter {
+
+		private final StringBuilder data;
+		private final int bitsPerChar;
+		private final char[] alphabet;
+		private int data_val = 0;
+		private int data_position = 0;
+
+		private BitWriter(int capacity, int bitsPerChar, char[] alphabet) {
+			this.data = new StringBuilder(capacity);
+			this.bitsPerChar = bitsPerChar;
+			this.alphabet = alphabet;
+		}
+
+		private void write(int value, int numBits) {
+			for (int i = 0; i < numBits; i++) {
+				data_val = (data_val << 1) | (value & 1);
+				if (data_position == bitsPerChar - 1) {
+					data_position = 0;
+					data.append(alphabet[data_val]);
+					data_val = 0;
+				} else {
+					data_position++;
+				}
+				value = value >> 1;
+			}
+		}
+
+		private String flush() {
+			while (true) {
+				data_val = (data_val << 1);
+				if (data_position == bitsPerChar - 1) {
+					data.append(alphabet[data_val]);
+					break;
+				} else
+					data_position++;
+			}
+			return data.toString();
+		}
+
+	}
+
+	/**
+	 * The dictionary as trie: maps a phrase (the code of its prefix and its last
+	 * character) to its code. Open addressing hash table with primitive keys.
+	 */
+	private static class PhraseDictionary {
+
+		// the codes 0 to 2 are reserved, so they cannot be the code of a phrase
+		private static final int EMPTY_PHRASE = 1;
+		private static final int NO_PHRASE = -1;
+		private static final long FREE_SLOT = 0;
+
+		private long[] keys;
+		private int[] codes;
+		private int size;
+
+		private PhraseDictionary(int expectedPhrases) {
+			int capacity = Integer.highestOneBit(Math.max(expectedPhrases, 8) * 2 - 1) << 1;
+			this.keys = new long[capacity];
+			this.codes = new int[capacity];
+		}
+
+		private int get(int prefix, char character) {
+			long key = key(prefix, character);
+			int mask = keys.length - 1;
+			for (int slot = slot(key, mask); keys[slot] != FREE_SLOT; slot = (slot + 1) & mask) {
+				if (keys[slot] == key)
+					return codes[slot];
+			}
+			return NO_PHRASE;
+		}
+
+		private void put(int prefix, char character, int code) {
+			if (2 * (size + 1) > keys.length)
+				resize();
+			insert(key(prefix, character), code);
+			size++;
+		}
+
+		private void insert(long key, int code) {
+			int mask = keys.length - 1;
+			int slot = slot(key, mask);
+			while (keys[slot] != FREE_SLOT)
+				slot = (slot + 1) & mask;
+			keys[slot] = key;
+			codes[slot] = code;
+		}
+
+		private void resize() {
+			long[] oldKeys = keys;
+			int[] oldCodes = codes;
+			keys = new long[oldKeys.length * 2];
+			codes = new int[oldCodes.length * 2];
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != FREE_SLOT)
+					insert(oldKeys[i], oldCodes[i]);
+			}
+		}
+
+		private static long key(int prefix, char character) {
+			// the prefix is never 0, so a key is never a free slot
+			return ((long) prefix << 16) | character;
+		}
+
+		private static int slot(long key, int mask) {
+			long hash = key * 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ (hash >>> 32)) & mask;
+		}
+
+	}
+
 }
@@ -47,6 +47,8 @@ import org.contextmapper.dsl.generator.sketchminer.model.TaskType;
 import org.contextmapper.tactic.dsl.tacticdsl.StateTransition;
 import org.eclipse.xtext.EcoreUtil2;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -55,6 +57,8 @@ public class Flow2SketchMinerConverter {
 
 	private Flow flow;
 	private List<SimplifiedFlowStep> simplifiedSteps;
+	private ListMultimap<String, SimplifiedFlowStep> stepsByFromTaskName;
+	private Set<Task> targetTasks;
 	private Map<String, Task> taskMap;
 	private SketchMinerModel model;
 
@@ -80,7 +84,7 @@ public class Flow2SketchMinerConverter {
 		if (!nextSteps.isEmpty()) {
 			for (SimplifiedFlowStep nextStep : nextSteps) {
 				Task nextStepsParallelTask = createParallelTask(nextStep.getFroms());
-				if (nextStep.getFroms().size() > 1 && !nextStepsParallelTask.equals(lastTask) && !seq.getTasks().contains(nextStepsParallelTask)) {
+				if (nextStep.getFroms().size() > 1 && !nextStepsParallelTask.equals(lastTask) && !seq.containsTask(nextStepsParallelTask)) {
 					seq.isSplittingFragment(true);
 					Task mergingTask = createParallelTask(nextStep.getFroms());
 					TaskSequence newSeq = new TaskSequence(mergingTask);
@@ -114,7 +118,7 @@ public class Flow2SketchMinerConverter {
 		seq.isSplittingFragment(true);
 		seq.addTask(createParallelTask(nextTasks));
 		for (Task task : nextTasks) {
-			if (seq.getTasks().contains(task))
+			if (seq.containsTask(task))
 				continue;
 
 			TaskSequence newSeq = new TaskSequence(task);
@@ -141,23 +145,34 @@ public class Flow2SketchMinerConverter {
 	}
 
 	private List<SimplifiedFlowStep> getNextSteps(Task lastTask) {
-		List<SimplifiedFlowStep> nextSteps = Lists.newLinkedList();
-		for (SimplifiedFlowStep step : simplifiedSteps) {
-			for (Task task : step.getFroms()) {
-				if (task.equalsOrContainsTask(lastTask))
-					nextSteps.add(step);
-			}
-		}
-		return nextSteps;
+		return Lists.newArrayList(stepsByFromTaskName.get(lastTask.getName()));
 	}
 
 	private void initIntermediateTypes() {
-		this.simplifiedSteps = Lists.newLinkedList();
+		this.simplifiedSteps = Lists.newArrayList();
+		this.stepsByFromTaskName = ArrayListMultimap.create();
+		this.targetTasks = Sets.newHashSet();
 		this.taskMap = Maps.newLinkedHashMap();
 
 		for (FlowStep step : flow.getSteps()) {
-			this.simplifiedSteps.add(convert(step));
+			addSimplifiedStep(convert(step));
+		}
+	}
+
+	/**
+	 * Adds a step and indexes it by the names of the tasks it starts from (a step
+	 * is a next step of a task, if one of its "from" tasks equals or contains the
+	 * task; see {@link Task#equalsOrContainsTask(Task)}).
+	 */
+	private void addSimplifiedStep(SimplifiedFlowStep step) {
+		this.simplifiedSteps.add(step);
+		for (Task from : step.getFroms()) {
+			Set<String> fromNames = Sets.newHashSet(from.getName());
+			fromNames.addAll(from.getParallelTasks().stream().map(t -> t.getName()).collect(Collectors.toSet()));
+			for (String fromName : fromNames)
+				stepsByFromTaskName.put(fromName, step);
 		}
+		this.targetTasks.addAll(step.getTos());
 	}
 
 	private SimplifiedFlowStep convert(FlowStep step) {
@@ -244,7 +259,7 @@ public class Flow2SketchMinerConverter {
 			generatedFroms.add(generatedStartTask);
 			generatedTos.add(firstStep.getFroms().iterator().next());
 			SimplifiedFlowStep generatedStep = new SimplifiedFlowStep(generatedFroms, generatedTos, ToType.OR);
-			this.simplifiedSteps.add(generatedStep);
+			addSimplifiedStep(generatedStep);
 			initialTasks.add(generatedStartTask);
 		}
 		return initialTasks;
@@ -262,11 +277,7 @@ public class Flow2SketchMinerConverter {
 	}
 
 	private boolean isInitialTask(Task potentialInitTask) {
-		for (SimplifiedFlowStep step : this.simplifiedSteps) {
-			if (step.getTos().contains(potentialInitTask))
-				return false;
-		}
-		return true;
+		return !this.targetTasks.contains(potentialInitTask);
 	}
 
 	private String getDefaultActorName(Flow flow) {
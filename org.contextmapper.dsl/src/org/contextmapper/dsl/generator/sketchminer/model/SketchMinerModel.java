@@ -18,6 +18,8 @@ package org.contextmapper.dsl.generator.sketchminer.model;
 import java.util.List;
 import java.util.Set;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
@@ -27,7 +29,7 @@ public class SketchMinerModel {
 	private String defaultActorName;
 
 	public SketchMinerModel(String defaultActorName) {
-		this.sequences = Lists.newLinkedList();
+		this.sequences = Lists.newArrayList();
 		this.defaultActorName = defaultActorName;
 	}
 
@@ -45,12 +47,15 @@ public class SketchMinerModel {
 
 	public void cleanupDuplicateSequences() {
 		List<TaskSequence> oldSequences = sequences;
-		List<TaskSequence> newSequences = Lists.newLinkedList();
+		List<TaskSequence> newSequences = Lists.newArrayList();
+		ListMultimap<Integer, TaskSequence> sequencesByHashCode = ArrayListMultimap.create();
 		for (TaskSequence seq : oldSequences) {
-			if (!containsSequence(newSequences, seq))
+			if (!containsSequence(sequencesByHashCode.get(seq.getTasksHashCode()), seq)) {
 				newSequences.add(seq);
+				sequencesByHashCode.put(seq.getTasksHashCode(), seq);
+			}
 		}
-		this.sequences = Lists.newLinkedList(newSequences);
+		this.sequences = newSequences;
 	}
 
 	public boolean hasMultipleActors() {
@@ -15,6 +15,7 @@
  */
 package org.contextmapper.dsl.generator.sketchminer.model;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -31,17 +32,22 @@ public class Task {
 	private List<Task> parallelTasks;
 	private String comment;
 	private String actor;
+	private Set<String> allTaskNames;
 
 	public Task(String name, TaskType type) {
 		if (name == null || "".equals(name))
 			throw new ContextMapperApplicationException("No valid event or command name passed.");
 		this.name = name;
 		this.type = type;
+		this.allTaskNames = Collections.singleton(name);
 	}
 
 	public Task(String name, TaskType type, List<Task> parallelTasks) {
 		this(name, type);
 		this.parallelTasks = Lists.newLinkedList(parallelTasks);
+		Set<String> names = Sets.newHashSet(name);
+		names.addAll(parallelTasks.stream().map(t -> t.getName()).collect(Collectors.toSet()));
+		this.allTaskNames = Collections.unmodifiableSet(names);
 	}
 
 	public String getName() {
@@ -79,12 +85,12 @@ public class Task {
 		return actor;
 	}
 
-	private Set<String> getAllTaskNames() {
-		Set<String> names = Sets.newHashSet();
-		names.add(name);
-		if (parallelTasks != null)
-			names.addAll(parallelTasks.stream().map(t -> t.getName()).collect(Collectors.toSet()));
-		return names;
+	/**
+	 * The names of the task and its parallel tasks (identify the task, see
+	 * {@link #equals(Object)}).
+	 */
+	Set<String> getAllTaskNames() {
+		return allTaskNames;
 	}
 
 	@Override
@@ -15,38 +15,54 @@
  */
 package org.contextmapper.dsl.generator.sketchminer.model;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Multiset;
 
+/**
+ * Sequence of tasks. The sequence counts its tasks (by their names) and keeps
+ * a hash of its task list, so that membership tests and comparisons with other
+ * sequences do not have to iterate over the tasks.
+ */
 public class TaskSequence {
 
 	private List<Task> tasks;
+	private Multiset<Set<String>> taskCounts;
+	private int tasksHashCode = 1;
 	private boolean isSplittingFragment = false;
 	private boolean isMergingFragment = false;
 
 	public TaskSequence(Task initialTask) {
 		if (initialTask == null)
 			throw new ContextMapperApplicationException("Initial task of a sequence must be defined!");
-		this.tasks = Lists.newLinkedList();
-		this.tasks.add(initialTask);
+		this.tasks = Lists.newArrayList();
+		this.taskCounts = HashMultiset.create();
+		append(initialTask);
 	}
 
-	private TaskSequence(List<Task> tasks) {
-		this.tasks = Lists.newLinkedList(tasks);
+	private TaskSequence(TaskSequence sequence) {
+		this.tasks = Lists.newArrayList(sequence.tasks);
+		this.taskCounts = HashMultiset.create(sequence.taskCounts);
+		this.tasksHashCode = sequence.tasksHashCode;
 	}
 
 	public boolean addTask(Task task2Add) {
-		if (Collections.frequency(tasks, task2Add) <= 1) {
-			tasks.add(task2Add);
+		if (taskCounts.count(task2Add.getAllTaskNames()) <= 1) {
+			append(task2Add);
 			return true;
 		}
 		return false;
 	}
 
+	public boolean containsTask(Task task) {
+		return taskCounts.contains(task.getAllTaskNames());
+	}
+
 	public List<Task> getTasks() {
 		return Lists.newLinkedList(tasks);
 	}
@@ -56,15 +72,22 @@ public class TaskSequence {
 	}
 
 	public TaskSequence copy() {
-		TaskSequence seq = new TaskSequence(tasks);
+		TaskSequence seq = new TaskSequence(this);
 		seq.isMergingFragment(this.isMergingFragment);
 		return seq;
 	}
 
 	public boolean isEqualToOtherSequence(TaskSequence otherSequence) {
-		return tasks.equals(otherSequence.getTasks());
+		return tasksHashCode == otherSequence.tasksHashCode && tasks.equals(otherSequence.tasks);
 	}
 
+	/**
+	 * Hash code of the task list; equal for sequences that are equal according to
+	 * {@link #isEqualToOtherSequence(TaskSequence)}.
+	 */
+	public int getTasksHashCode() {
+		return tasksHashCode;
+	}
 	public boolean isMergingFragment() {
 		return isMergingFragment;
 	}
@@ -81,4 +104,10 @@ public class TaskSequence {
 		this.isSplittingFragment = isSplittingFragment;
 	}
 
+	private void append(Task task) {
+		tasks.add(task);
+		taskCounts.add(task.getAllTaskNames());
+		tasksHashCode = 31 * tasksHashCode + task.getAllTaskNames().hashCode();
+	}
+
 }
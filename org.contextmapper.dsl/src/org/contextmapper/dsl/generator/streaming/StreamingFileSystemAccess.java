@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.streaming;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+/**
+ * File system access that can write text files incrementally, so that large
+ * generated artifacts never have to be kept in memory completely.
+ * 
+ * @author agent
+ */
+public interface StreamingFileSystemAccess {
+
+	/**
+	 * Writes the text file (in the default output configuration).
+	 */
+	void generateFile(String fileName, TextContent content) throws RuntimeIOException;
+
+	/**
+	 * Writes a text file. The content is streamed into the file if the file
+	 * system access supports it ({@link StreamingFileSystemAccess}); otherwise it
+	 * is created in memory first.
+	 */
+	static void generateFile(IFileSystemAccess2 fsa, String fileName, TextContent content) throws RuntimeIOException {
+		if (fsa instanceof StreamingFileSystemAccess) {
+			((StreamingFileSystemAccess) fsa).generateFile(fileName, content);
+			return;
+		}
+		StringWriter writer = new StringWriter();
+		try {
+			content.writeTo(writer);
+		} catch (IOException e) {
+			throw new RuntimeIOException(e);
+		}
+		fsa.generateFile(fileName, writer.getBuffer());
+	}
+
+}
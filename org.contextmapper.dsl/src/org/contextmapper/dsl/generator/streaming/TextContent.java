@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.streaming;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Content of a generated text file that is written to a {@link Writer}
+ * (instead of being created as one string).
+ * 
+ * @author agent
+ */
+@FunctionalInterface
+public interface TextContent {
+
+	void writeTo(Writer writer) throws IOException;
+
+	/**
+	 * Creates the whole content in memory.
+	 */
+	static String asString(TextContent content) {
+		StringWriter writer = new StringWriter();
+		try {
+			content.writeTo(writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return writer.toString();
+	}
+
+}
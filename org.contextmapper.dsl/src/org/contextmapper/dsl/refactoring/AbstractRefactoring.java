@@ -34,9 +34,9 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.serializer.ISerializer;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -52,6 +52,8 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 
 	protected ResourceSet consistencyCheckResources;
 	protected Set<CMLResource> additionalResourcesToCheck = Sets.newHashSet();
+	private ModelChangeRecorder changeRecorder;
+	private RefactoringModelIndex modelIndex;
 
 	@Override
 	public void refactor(CMLResource resource) {
@@ -60,6 +62,28 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		this.model = resource.getContextMappingModel();
 		enableModificationTracking(resource);
 		resolveRootElements();
+		this.modelIndex = createModelIndex();
+		this.changeRecorder = new ModelChangeRecorder();
+		recordChanges(resource);
+		try {
+			doRefactor();
+		} finally {
+			changeRecorder.endRecording();
+			modelIndex.dispose();
+		}
+	}
+
+	/**
+	 * Applies the refactoring as a step of the given transaction; the resolved
+	 * imports, the model index and the change recording are shared by all steps.
+	 */
+	void refactor(RefactoringTransaction transaction) {
+		this.rootResource = transaction.getResource();
+		this.importedResources = transaction.resolveImportedResources();
+		this.model = rootResource.getContextMappingModel();
+		resolveRootElements();
+		this.modelIndex = transaction.getModelIndex();
+		this.changeRecorder = transaction.getChangeRecorder();
 		doRefactor();
 	}
 
@@ -79,7 +103,7 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	public void persistChanges(ISerializer serializer) {
 		CMLResource rootResource = this.rootResource;
 		if (rootResource.isModified())
-			persistResource(rootResource, serializer);
+			persistResource(rootResource);
 		if (rootResource.getResourceSet() != null)
 			persistChanges(rootResource.getResourceSet(), serializer);
 		if (this.consistencyCheckResources != null)
@@ -89,7 +113,37 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	private void persistChanges(ResourceSet rs, ISerializer serializer) {
 		for (Resource resource : rs.getResources()) {
 			if (resource.isModified())
-				persistResource(new CMLResource(resource), serializer);
+				persistResource(new CMLResource(resource));
+		}
+	}
+
+	/**
+	 * Persists the changes like {@link #persistChanges(ISerializer)}, but only
+	 * serializes and formats the top-level elements (Bounded Contexts, Context
+	 * Map, etc.) that have been changed by the refactoring and replaces their text
+	 * in the CML files. Resources in which this is not possible (the model root
+	 * has been changed, the file has been changed after parsing, etc.) are
+	 * serialized completely.
+	 */
+	@Override
+	public void persistChangedElements(ISerializer serializer) {
+		CMLResource rootResource = this.rootResource;
+		// elements referencing renamed elements have to be serialized too
+		changeRecorder.recordReferencesToRenamedObjects(rootResource.getResourceSet() != null ? rootResource.getResourceSet() : rootResource.getContents().get(0).eResource());
+		if (this.consistencyCheckResources != null)
+			changeRecorder.recordReferencesToRenamedObjects(consistencyCheckResources);
+		if (rootResource.isModified())
+			persistChangedElements(rootResource, serializer);
+		if (rootResource.getResourceSet() != null)
+			persistChangedElements(rootResource.getResourceSet(), serializer);
+		if (this.consistencyCheckResources != null)
+			persistChangedElements(consistencyCheckResources, serializer);
+	}
+
+	private void persistChangedElements(ResourceSet rs, ISerializer serializer) {
+		for (Resource resource : rs.getResources()) {
+			if (resource.isModified())
+				persistChangedElements(new CMLResource(resource), serializer);
 		}
 	}
 
@@ -107,6 +161,38 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		}
 	}
 
+	private void recordChanges(CMLResource cmlResource) {
+		changeRecorder.beginRecording(cmlResource);
+		if (cmlResource.getResourceSet() != null)
+			recordChanges(cmlResource.getResourceSet());
+		if (consistencyCheckResources != null)
+			recordChanges(consistencyCheckResources);
+	}
+
+	private void recordChanges(ResourceSet rs) {
+		for (Resource resource : rs.getResources()) {
+			changeRecorder.beginRecording(resource);
+		}
+	}
+
+	private RefactoringModelIndex createModelIndex() {
+		RefactoringModelIndex index = new RefactoringModelIndex();
+		index.index(model);
+		for (CMLResource importedResource : importedResources)
+			index.index(importedResource.getContextMappingModel());
+		return index;
+	}
+
+	/**
+	 * Returns the index of the model elements of the root resource and its
+	 * imports. The index is updated while the refactoring changes the model, but
+	 * only until {@link #doRefactor()} (or the {@link RefactoringTransaction} the
+	 * refactoring is applied in) has finished.
+	 */
+	protected RefactoringModelIndex getModelIndex() {
+		return modelIndex;
+	}
+
 	protected Set<BoundedContext> getAllBoundedContexts() {
 		return Sets.newHashSet(this.boundedContextsMap.keySet());
 	}
@@ -123,34 +209,26 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		return Sets.newHashSet(this.userRequirementMap.keySet());
 	}
 
-	private void persistResource(CMLResource resource, ISerializer serializer) {
-		Set<String> serializationErrors = serializationDryRun(resource, serializer);
-		if (!serializationErrors.isEmpty())
-			throw new RefactoringSerializationException(serializationErrors);
-
+	private void persistResource(CMLResource resource) {
+		// the model is serialized into memory first, so that the file is not touched
+		// if it cannot be serialized
+		Map<Object, Object> saveOptions = Maps.newHashMap(SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+		saveOptions.put(Resource.OPTION_SAVE_ONLY_IF_CHANGED, Resource.OPTION_SAVE_ONLY_IF_CHANGED_MEMORY_BUFFER);
 		try {
-			resource.save(SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+			resource.save(saveOptions);
 		} catch (IOException e) {
 			throw new RuntimeException("Document cannot be formatted.");
+		} catch (RuntimeException e) {
+			throw new RefactoringSerializationException(Sets.newHashSet(e.getMessage()));
 		}
 	}
 
-	/**
-	 * Tries to serialize a CML resource and returns a set of error messages if it
-	 * does not work.
-	 * 
-	 * @param resource the resource that shall be persisted
-	 * @return an empty set, if there was no error, a non-empty set (with error
-	 *         messages) otherwise
-	 */
-	private Set<String> serializationDryRun(CMLResource resource, ISerializer serializer) {
-		Set<String> errors = Sets.newHashSet();
-		try {
-			serializer.serialize(resource.getContextMappingModel());
-		} catch (Exception e) {
-			errors.add(e.getMessage());
-		}
-		return errors;
+	private void persistChangedElements(CMLResource resource, ISerializer serializer) {
+		String text = new ChangedElementsSerializer(serializer, changeRecorder).serializeChangedElements(resource);
+		if (text == null)
+			persistResource(resource);
+		else
+			ChangedElementsSerializer.writeText((XtextResource) resource.getContents().get(0).eResource(), text);
 	}
 
 	protected CMLResource getResource(BoundedContext bc) {
@@ -210,30 +288,25 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		return false;
 	}
 
+	/**
+	 * Adds elements to a list of the model. The list is changed in place (one
+	 * notification for all added elements).
+	 */
 	protected <T> void addElementsToEList(EList<T> list, List<T> elementsToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 		list.addAll(elementsToAdd);
 	}
 
+	/**
+	 * Adds an element to a list of the model (in place).
+	 */
 	protected <T> void addElementToEList(EList<T> list, T elementToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 		list.add(elementToAdd);
 	}
 
+	/**
+	 * Removes an element from a list of the model (in place).
+	 */
 	protected <T> void removeElementFromEList(EList<T> list, T object) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
 		list.remove(object);
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 	}
 }
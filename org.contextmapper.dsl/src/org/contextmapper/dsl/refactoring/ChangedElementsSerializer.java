@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.eclipse.xtext.util.ReplaceRegion;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Creates the new CML text of resources that have been changed by refactorings:
+ * only the text of the changed top-level elements (recorded by a
+ * {@link ModelChangeRecorder}) is serialized, formatted, and replaced in the
+ * text the resource has been parsed from.
+ *
+ * @author agent
+ */
+class ChangedElementsSerializer {
+
+	private final ISerializer serializer;
+	private final ModelChangeRecorder changeRecorder;
+
+	ChangedElementsSerializer(ISerializer serializer, ModelChangeRecorder changeRecorder) {
+		this.serializer = serializer;
+		this.changeRecorder = changeRecorder;
+	}
+
+	/**
+	 * Creates the new text of the resource by replacing the text of the changed
+	 * top-level elements.
+	 *
+	 * @return the new text, or null if the resource has to be serialized completely
+	 *         (the model root has been changed, the file has been changed after
+	 *         parsing, etc.)
+	 */
+	String serializeChangedElements(CMLResource resource) {
+		EObject modelRoot = resource.getContents().get(0);
+		Set<EObject> changedElements = changeRecorder != null ? changeRecorder.getChangedTopLevelElements(resource.getURI()) : null;
+		String originalText = getParsedText(modelRoot.eResource());
+		if (changedElements == null || originalText == null || !originalText.equals(readText((XtextResource) modelRoot.eResource())))
+			return null;
+
+		List<ReplaceRegion> replacements = Lists.newArrayList();
+		Set<String> serializationErrors = Sets.newHashSet();
+		for (EObject changedElement : changedElements) {
+			try {
+				replacements.add(serializer.serializeReplacement(changedElement, SaveOptions.newBuilder().format().getOptions()));
+			} catch (RuntimeException e) {
+				serializationErrors.add(e.getMessage());
+			}
+		}
+		if (!serializationErrors.isEmpty())
+			throw new RefactoringSerializationException(serializationErrors);
+
+		// replace from the end, so that the offsets of the other regions stay valid
+		replacements.sort(Comparator.comparingInt(ReplaceRegion::getOffset).reversed());
+		StringBuilder text = new StringBuilder(originalText);
+		for (ReplaceRegion replacement : replacements)
+			text.replace(replacement.getOffset(), replacement.getEndOffset(), replacement.getText());
+		return text.toString();
+	}
+
+	/**
+	 * Serializes (and formats) the complete model of the resource.
+	 */
+	String serializeResource(CMLResource resource) {
+		try {
+			return serializer.serialize(resource.getContents().get(0), SaveOptions.newBuilder().format().getOptions());
+		} catch (RuntimeException e) {
+			throw new RefactoringSerializationException(Sets.newHashSet(e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns the text the model of the resource has been parsed from, or null if
+	 * the model has not been parsed.
+	 */
+	static String getParsedText(Resource resource) {
+		if (!(resource instanceof XtextResource))
+			return null;
+		XtextResource xtextResource = (XtextResource) resource;
+		if (xtextResource.getParseResult() == null || xtextResource.getParseResult().getRootNode() == null)
+			return null;
+		return xtextResource.getParseResult().getRootNode().getText();
+	}
+
+	/**
+	 * Writes the text into the file of the resource (the resource is not modified
+	 * anymore afterwards).
+	 */
+	static void writeText(XtextResource resource, String text) {
+		try (Writer writer = new OutputStreamWriter(getURIConverter(resource).createOutputStream(resource.getURI()), resource.getEncoding())) {
+			writer.write(text);
+		} catch (IOException e) {
+			throw new ContextMapperApplicationException("The file '" + resource.getURI().toString() + "' cannot be written.", e);
+		}
+		resource.setModified(false);
+	}
+
+	/**
+	 * Reads the current text of the file of the resource, or returns null if it
+	 * cannot be read.
+	 */
+	static String readText(XtextResource resource) {
+		try (InputStream inputStream = getURIConverter(resource).createInputStream(resource.getURI())) {
+			return new String(ByteStreams.toByteArray(inputStream), resource.getEncoding());
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	static URIConverter getURIConverter(Resource resource) {
+		return resource.getResourceSet() != null ? resource.getResourceSet().getURIConverter() : URIConverter.INSTANCE;
+	}
+
+}
@@ -19,6 +19,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.contextmapper.dsl.cml.CMLRelationshipIndex;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
@@ -42,7 +43,7 @@ public class ContextMappingModelHelper {
 	 */
 	public List<Relationship> findAnyRelationshipsBetweenTwoContexts(BoundedContext bc1, BoundedContext bc2) {
 		List<Relationship> relationships = Lists.newArrayList();
-		for (Relationship relationship : contextMap.getRelationships()) {
+		for (Relationship relationship : getCandidateRelationships(bc1)) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
 				if ((symRelationship.getParticipant1().getName().equals(bc1.getName()) && symRelationship.getParticipant2().getName().equals(bc2.getName()))
@@ -63,10 +64,10 @@ public class ContextMappingModelHelper {
 	 */
 	public List<Relationship> findAnyRelationshipsInvolvingContext(BoundedContext bc) {
 		List<Relationship> relationships = Lists.newArrayList();
-		for (Relationship relationship : contextMap.getRelationships()) {
+		for (Relationship relationship : getCandidateRelationships(bc)) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
-				if (symRelationship.getParticipant1().getName().endsWith(bc.getName()) || symRelationship.getParticipant2().getName().equals(bc.getName()))
+				if (symRelationship.getParticipant1().getName().equals(bc.getName()) || symRelationship.getParticipant2().getName().equals(bc.getName()))
 					relationships.add(symRelationship);
 			} else if (relationship instanceof UpstreamDownstreamRelationship) {
 				UpstreamDownstreamRelationship upDownRelationship = (UpstreamDownstreamRelationship) relationship;
@@ -84,7 +85,7 @@ public class ContextMappingModelHelper {
 	 */
 	public boolean replaceBCInAllRelationships(BoundedContext originalBC, BoundedContext replacementBC) {
 		boolean replacedAtLeastInOneRelationship = false;
-		for (Relationship relationship : contextMap.getRelationships()) {
+		for (Relationship relationship : getCandidateRelationships(originalBC)) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
 				if (symRelationship.getParticipant1().getName().equals(originalBC.getName())) {
@@ -112,6 +113,15 @@ public class ContextMappingModelHelper {
 		return replacedAtLeastInOneRelationship;
 	}
 
+	/**
+	 * Returns the relationships of the context map that may involve the given
+	 * context (in the order of the context map), looked up in the adjacency index
+	 * of the map ({@link CMLRelationshipIndex}).
+	 */
+	private List<Relationship> getCandidateRelationships(BoundedContext bc) {
+		return CMLRelationshipIndex.getIndex(contextMap).getRelationships(bc.getName());
+	}
+
 	/**
 	 * Post-AR-Method: Fixes 'exposedAggregates' in context map relationships after
 	 * some aggregates have been moved to a new bounded context.
@@ -18,7 +18,6 @@ package org.contextmapper.dsl.refactoring;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -35,6 +34,7 @@ import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 
 import com.google.common.collect.Maps;
@@ -121,8 +121,8 @@ public class ExtractSuggestedService extends AbstractRefactoring implements Sema
 		String domainObjectName = ((DomainObject) serviceCutAttribute.eContainer()).getName();
 		String attributeName = serviceCutAttribute.getName();
 
-		for (Attribute attribute : EcoreUtil2.eAllOfType(model, Attribute.class).stream().filter(a -> a.getName().equals(attributeName)).collect(Collectors.toList())) {
-			if (attribute.eContainer() instanceof DomainObject && ((DomainObject) attribute.eContainer()).getName().equals(domainObjectName))
+		for (Attribute attribute : getModelIndex().getAttributes(domainObjectName, attributeName)) {
+			if (EcoreUtil.isAncestor(model, attribute))
 				return attribute;
 		}
 
@@ -137,8 +137,8 @@ public class ExtractSuggestedService extends AbstractRefactoring implements Sema
 		String domainObjectName = ((DomainObject) serviceCutReference.eContainer()).getName();
 		String attributeName = serviceCutReference.getName();
 
-		for (Reference reference : EcoreUtil2.eAllOfType(model, Reference.class).stream().filter(r -> r.getName().equals(attributeName)).collect(Collectors.toList())) {
-			if (reference.eContainer() instanceof DomainObject && ((DomainObject) reference.eContainer()).getName().equals(domainObjectName))
+		for (Reference reference : getModelIndex().getReferences(domainObjectName, attributeName)) {
+			if (EcoreUtil.isAncestor(model, reference))
 				return reference;
 		}
 
@@ -163,8 +163,7 @@ public class ExtractSuggestedService extends AbstractRefactoring implements Sema
 	private String getUniqueDomainObjectName(String inputName) {
 		String name = inputName;
 		int counter = 2;
-		Set<String> existingNames = EcoreUtil2.eAllOfType(model, DomainObject.class).stream().map(o -> o.getName()).collect(Collectors.toSet());
-		while (existingNames.contains(name)) {
+		while (getModelIndex().getDomainObjects(name).stream().anyMatch(o -> EcoreUtil.isAncestor(model, o))) {
 			name = inputName + "_" + counter;
 			counter++;
 		}
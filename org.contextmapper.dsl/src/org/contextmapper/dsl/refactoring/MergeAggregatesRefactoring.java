@@ -140,14 +140,8 @@ public class MergeAggregatesRefactoring extends AbstractRefactoring implements S
 
 			UpstreamDownstreamRelationship upDownRelationship = (UpstreamDownstreamRelationship) relationship;
 			if (upDownRelationship.getUpstreamExposedAggregates().contains(agg2)) {
-				// ugly workaround (clear list and add all again); otherwise list is not
-				// properly updated when saving ecore model :(
-				List<Aggregate> exposedAggregates = Lists.newArrayList();
-				exposedAggregates.addAll(upDownRelationship.getUpstreamExposedAggregates());
-				exposedAggregates.remove(agg2);
-				exposedAggregates.add(agg1);
-				upDownRelationship.getUpstreamExposedAggregates().clear();
-				upDownRelationship.getUpstreamExposedAggregates().addAll(exposedAggregates);
+				removeElementFromEList(upDownRelationship.getUpstreamExposedAggregates(), agg2);
+				addElementToEList(upDownRelationship.getUpstreamExposedAggregates(), agg1);
 			}
 		}
 	}
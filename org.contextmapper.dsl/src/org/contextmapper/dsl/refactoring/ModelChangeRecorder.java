@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Records the model elements that are changed while a refactoring is applied,
+ * so that only the text of the changed top-level elements (Bounded Contexts,
+ * Context Map, Domains, etc.) has to be replaced when the changes are
+ * persisted.
+ *
+ * The text of an element that references a renamed element still contains the
+ * old name, although the element itself has not been changed. Call
+ * {@link #recordReferencesToRenamedObjects(Notifier)} before the changes are
+ * persisted, so that these elements are serialized too.
+ *
+ * @author agent
+ */
+public class ModelChangeRecorder extends EContentAdapter {
+
+	private static final String NAME_FEATURE = "name";
+
+	private final List<Resource> recordedResources = Lists.newArrayList();
+	private final Set<EObject> changedObjects = Sets.newLinkedHashSet();
+	private final Set<URI> resourcesWithChangedContents = Sets.newHashSet();
+	private final Set<EObject> renamedObjects = Sets.newLinkedHashSet();
+
+	/**
+	 * Starts recording the changes in the given resource.
+	 */
+	public void beginRecording(Resource resource) {
+		if (resource.eAdapters().contains(this))
+			return;
+		resource.eAdapters().add(this);
+		recordedResources.add(resource);
+	}
+
+	/**
+	 * Stops recording; the changes recorded so far are kept.
+	 */
+	public void endRecording() {
+		for (Resource resource : recordedResources)
+			resource.eAdapters().remove(this);
+		recordedResources.clear();
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch())
+			return;
+		if (notification.getNotifier() instanceof EObject) {
+			changedObjects.add((EObject) notification.getNotifier());
+			if (isNameChange(notification))
+				renamedObjects.add((EObject) notification.getNotifier());
+		} else if (notification.getNotifier() instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS)
+			resourcesWithChangedContents.add(((Resource) notification.getNotifier()).getURI());
+	}
+
+	/**
+	 * Records the elements referencing a renamed element as changed and marks
+	 * their resources as modified (also resources that have not been changed by
+	 * the refactoring otherwise).
+	 *
+	 * @param scope the resource set (or resource) in which the references are
+	 *              searched
+	 */
+	public void recordReferencesToRenamedObjects(Notifier scope) {
+		if (renamedObjects.isEmpty())
+			return;
+		Map<EObject, Collection<Setting>> references = EcoreUtil.UsageCrossReferencer.findAll(renamedObjects, Collections.singleton(scope));
+		for (Collection<Setting> settings : references.values()) {
+			for (Setting setting : settings) {
+				EObject referencingObject = setting.getEObject();
+				if (referencingObject.eResource() == null)
+					continue;
+				changedObjects.add(referencingObject);
+				referencingObject.eResource().setModified(true);
+			}
+		}
+	}
+
+	/**
+	 * Returns the changed top-level elements (the elements contained by the model
+	 * root) of a resource.
+	 *
+	 * @param resourceURI the URI of the resource
+	 * @return the changed top-level elements, or null if the model root itself has
+	 *         been changed
+	 */
+	public Set<EObject> getChangedTopLevelElements(URI resourceURI) {
+		if (resourcesWithChangedContents.contains(resourceURI))
+			return null;
+		Set<EObject> topLevelElements = Sets.newLinkedHashSet();
+		for (EObject changedObject : changedObjects) {
+			// objects that have been removed from the model are changed with their container
+			if (changedObject.eResource() == null || !resourceURI.equals(changedObject.eResource().getURI()))
+				continue;
+			EObject topLevelElement = changedObject;
+			while (topLevelElement.eContainer() != null && topLevelElement.eContainer().eContainer() != null)
+				topLevelElement = topLevelElement.eContainer();
+			if (topLevelElement.eContainer() == null)
+				return null;
+			topLevelElements.add(topLevelElement);
+		}
+		return topLevelElements;
+	}
+
+	private boolean isNameChange(Notification notification) {
+		return notification.getEventType() == Notification.SET && notification.getFeature() instanceof EAttribute
+				&& NAME_FEATURE.equals(((EAttribute) notification.getFeature()).getName());
+	}
+
+}
@@ -77,6 +77,8 @@ public class RefactoringHelper {
 	 * Collects all Aggregate names of the current model.
 	 */
 	public Set<String> collectAllAggregateNames() {
+		if (ar.getModelIndex() != null)
+			return ar.getModelIndex().getAggregateNames();
 		Set<String> aggregateNames = Sets.newHashSet();
 		for (BoundedContext bc : ar.getAllBoundedContexts()) {
 			aggregateNames.addAll(collectAggregates(bc).stream().map(agg -> agg.getName()).collect(Collectors.toSet()));
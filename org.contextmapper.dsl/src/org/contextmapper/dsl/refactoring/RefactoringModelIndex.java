@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.tactic.dsl.tacticdsl.Attribute;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Index of the model elements refactorings look up by name: Bounded Contexts,
+ * Aggregates, domain objects, attributes and references (qualified with the name
+ * of their domain object, e.g. "Customer.firstName"). The relationships of a
+ * context map are looked up in its
+ * {@link org.contextmapper.dsl.cml.CMLRelationshipIndex}.
+ *
+ * The index is built once for the models a refactoring works on and is updated
+ * while the refactoring changes them (elements added, removed or renamed). Call
+ * {@link #dispose()} when the refactoring is done.
+ *
+ * @author agent
+ */
+public class RefactoringModelIndex extends EContentAdapter {
+
+	private static final String NAME_FEATURE = "name";
+
+	private final List<ContextMappingModel> indexedModels = Lists.newArrayList();
+	private final ListMultimap<String, EObject> boundedContexts = ArrayListMultimap.create();
+	private final ListMultimap<String, EObject> aggregates = ArrayListMultimap.create();
+	private final ListMultimap<String, EObject> domainObjects = ArrayListMultimap.create();
+	private final ListMultimap<String, EObject> attributes = ArrayListMultimap.create();
+	private final ListMultimap<String, EObject> references = ArrayListMultimap.create();
+	private final Map<EObject, Set<String>> indexedKeys = new IdentityHashMap<>();
+
+	/**
+	 * Indexes the given model and keeps the index up to date while it is changed.
+	 */
+	public void index(ContextMappingModel model) {
+		if (model == null || indexedModels.contains(model))
+			return;
+		indexedModels.add(model);
+		indexTree(model);
+		model.eAdapters().add(this);
+	}
+
+	/**
+	 * Stops updating the index.
+	 */
+	public void dispose() {
+		for (ContextMappingModel model : indexedModels)
+			model.eAdapters().remove(this);
+	}
+
+	/**
+	 * Checks whether the given element is part of an indexed model.
+	 */
+	public boolean isIndexed(EObject object) {
+		return object != null && indexedModels.contains(EcoreUtil.getRootContainer(object));
+	}
+
+	public List<BoundedContext> getBoundedContexts(String name) {
+		return get(boundedContexts, name, BoundedContext.class);
+	}
+
+	public List<Aggregate> getAggregates(String name) {
+		return get(aggregates, name, Aggregate.class);
+	}
+
+	public Set<String> getAggregateNames() {
+		return Sets.newHashSet(aggregates.keySet());
+	}
+
+	public List<DomainObject> getDomainObjects(String name) {
+		return get(domainObjects, name, DomainObject.class);
+	}
+
+	public List<Attribute> getAttributes(String domainObjectName, String attributeName) {
+		return get(attributes, qualifiedName(domainObjectName, attributeName), Attribute.class);
+	}
+
+	public List<Reference> getReferences(String domainObjectName, String referenceName) {
+		return get(references, qualifiedName(domainObjectName, referenceName), Reference.class);
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || !(notification.getNotifier() instanceof EObject))
+			return;
+		EObject notifier = (EObject) notification.getNotifier();
+		Object feature = notification.getFeature();
+		if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+			updateContainment(notification);
+		} else if (feature instanceof EAttribute && NAME_FEATURE.equals(((EAttribute) feature).getName()) && indexedKeys.containsKey(notifier)) {
+			// contained elements may be indexed with the name (qualified names)
+			unindexTree(notifier);
+			indexTree(notifier);
+		}
+	}
+
+	private void updateContainment(Notification notification) {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			indexTree((EObject) notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			for (Object object : (Collection<?>) notification.getNewValue())
+				indexTree((EObject) object);
+			break;
+		case Notification.REMOVE:
+			unindexTree((EObject) notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object object : (Collection<?>) notification.getOldValue())
+				unindexTree((EObject) object);
+			break;
+		case Notification.SET:
+		case Notification.UNSET:
+			if (notification.getOldValue() != null)
+				unindexTree((EObject) notification.getOldValue());
+			if (notification.getNewValue() != null)
+				indexTree((EObject) notification.getNewValue());
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void indexTree(EObject root) {
+		reindex(root);
+		for (Iterator<EObject> iterator = root.eAllContents(); iterator.hasNext();)
+			reindex(iterator.next());
+	}
+
+	private void unindexTree(EObject root) {
+		unindex(root);
+		for (Iterator<EObject> iterator = root.eAllContents(); iterator.hasNext();)
+			unindex(iterator.next());
+	}
+
+	private void reindex(EObject object) {
+		unindex(object);
+		ListMultimap<String, EObject> index = getIndex(object);
+		if (index == null)
+			return;
+		Set<String> keys = getKeys(object);
+		for (String key : keys)
+			index.put(key, object);
+		indexedKeys.put(object, keys);
+	}
+
+	private void unindex(EObject object) {
+		Set<String> keys = indexedKeys.remove(object);
+		if (keys == null)
+			return;
+		ListMultimap<String, EObject> index = getIndex(object);
+		for (String key : keys)
+			index.remove(key, object);
+	}
+
+	private ListMultimap<String, EObject> getIndex(EObject object) {
+		if (object instanceof BoundedContext)
+			return boundedContexts;
+		if (object instanceof Aggregate)
+			return aggregates;
+		if (object instanceof DomainObject)
+			return domainObjects;
+		if (object instanceof Attribute)
+			return attributes;
+		if (object instanceof Reference)
+			return references;
+		return null;
+	}
+
+	private Set<String> getKeys(EObject object) {
+		Set<String> keys = Sets.newLinkedHashSet();
+		if (object instanceof BoundedContext) {
+			addKey(keys, ((BoundedContext) object).getName());
+		} else if (object instanceof Aggregate) {
+			addKey(keys, ((Aggregate) object).getName());
+		} else if (object instanceof DomainObject) {
+			addKey(keys, ((DomainObject) object).getName());
+		} else if (object instanceof Attribute && object.eContainer() instanceof DomainObject) {
+			addKey(keys, qualifiedName(((DomainObject) object.eContainer()).getName(), ((Attribute) object).getName()));
+		} else if (object instanceof Reference && object.eContainer() instanceof DomainObject) {
+			addKey(keys, qualifiedName(((DomainObject) object.eContainer()).getName(), ((Reference) object).getName()));
+		}
+		return keys;
+	}
+
+	private void addKey(Set<String> keys, String key) {
+		if (key != null)
+			keys.add(key);
+	}
+
+	private String qualifiedName(String parentName, String name) {
+		if (parentName == null || name == null)
+			return null;
+		return parentName + "." + name;
+	}
+
+	private <T> List<T> get(ListMultimap<String, EObject> index, String key, Class<T> type) {
+		if (key == null)
+			return ImmutableList.of();
+		return ImmutableList.copyOf(Iterables.filter(index.get(key), type));
+	}
+
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLImportResolver;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
+
+/**
+ * Applies a sequence of refactorings to a CML model and persists the result
+ * once:
+ *
+ * <ul>
+ * <li>{@link #apply(SemanticCMLRefactoring)} applies a refactoring in memory.
+ * All refactorings of the transaction share the resolved imports, the
+ * {@link RefactoringModelIndex} and the recorded changes.</li>
+ * <li>{@link #commit()} validates the changed resources and writes them (only
+ * the text of the changed top-level elements is replaced, if possible). No
+ * file is written if the refactorings introduced an error or a resource cannot
+ * be serialized. The new contents are written into temporary files first,
+ * which replace the files once all of them have been written.</li>
+ * <li>{@link #rollback()} restores the state of all resources in memory. This
+ * happens automatically if a refactoring or the commit fails.</li>
+ * </ul>
+ *
+ * When the transaction begins, the current text of every resource is kept for
+ * the rollback: the text the resource has been parsed from, if the file still
+ * contains it and the model has not been modified; otherwise the serialized
+ * model. The rollback reparses the resources from these texts (the model
+ * objects are replaced). Modifications made before the transaction began are
+ * only detected in resources that track their modifications (or have not been
+ * parsed at all). If a validator is given, the resources are validated when the
+ * transaction begins as well, so that the commit only fails because of errors
+ * the refactorings introduced.
+ *
+ * @author agent
+ */
+public class RefactoringTransaction {
+
+	private final CMLResource resource;
+	private final ISerializer serializer;
+	private final IResourceValidator validator;
+	private final ModelChangeRecorder changeRecorder = new ModelChangeRecorder();
+	private final RefactoringModelIndex modelIndex = new RefactoringModelIndex();
+	private final Set<Resource> initialResources = Sets.newHashSet();
+	private final Map<Resource, String> initialTexts = Maps.newHashMap();
+	private final Set<Resource> initiallyModifiedResources = Sets.newHashSet();
+	private final Multiset<String> initialErrors;
+	private boolean active = true;
+
+	/**
+	 * Begins a transaction on the given resource (and the other resources in its
+	 * resource set).
+	 *
+	 * @param resource   the resource with the CML model that shall be refactored
+	 * @param serializer the serializer used to persist the changes (and to keep
+	 *                   unsaved changes for the rollback)
+	 * @param validator  the validator used to check the changed resources before
+	 *                   they are persisted (null to persist without validation)
+	 */
+	public RefactoringTransaction(CMLResource resource, ISerializer serializer, IResourceValidator validator) {
+		this.resource = resource;
+		this.serializer = serializer;
+		this.validator = validator;
+		for (Resource initialResource : getResources()) {
+			initialResources.add(initialResource);
+			if (hasUnsavedChanges(initialResource))
+				initiallyModifiedResources.add(initialResource);
+			if (initialResource instanceof XtextResource && !initialResource.getContents().isEmpty())
+				initialTexts.put(initialResource, getCurrentText((XtextResource) initialResource));
+		}
+		this.initialErrors = getErrors(initialResources);
+		modelIndex.index(resource.getContextMappingModel());
+		resolveImportedResources();
+	}
+
+	/**
+	 * Applies a refactoring in memory. If the refactoring fails, the transaction is
+	 * rolled back.
+	 */
+	public void apply(SemanticCMLRefactoring refactoring) {
+		checkActive();
+		try {
+			if (refactoring instanceof AbstractRefactoring)
+				((AbstractRefactoring) refactoring).refactor(this);
+			else
+				refactoring.refactor(resource);
+			trackChanges();
+		} catch (RuntimeException e) {
+			rollback();
+			throw e;
+		}
+	}
+
+	/**
+	 * Validates and persists all resources changed by the applied refactorings.
+	 * If the refactorings introduced an error or a changed resource cannot be
+	 * serialized, no file is written and the transaction is rolled back. If a file
+	 * cannot be written, the exception names the files that have been replaced
+	 * already.
+	 */
+	public void commit() {
+		checkActive();
+		Map<Resource, byte[]> contents = Maps.newLinkedHashMap();
+		try {
+			// elements referencing renamed elements have to be serialized too
+			changeRecorder.recordReferencesToRenamedObjects(resource.getResourceSet() != null ? resource.getResourceSet() : resource.getXtextResource());
+			List<Resource> changedResources = getChangedResources();
+			validate(changedResources);
+			ChangedElementsSerializer changedElementsSerializer = new ChangedElementsSerializer(serializer, changeRecorder);
+			for (Resource changedResource : changedResources)
+				contents.put(changedResource, serialize(changedResource, changedElementsSerializer));
+		} catch (RuntimeException e) {
+			rollback();
+			throw e;
+		}
+		close();
+		Map<Resource, Path> tempFiles = Maps.newLinkedHashMap();
+		try {
+			writeTempFiles(contents, tempFiles);
+		} catch (ContextMapperApplicationException e) {
+			deleteTempFiles(tempFiles.values());
+			restore();
+			throw e;
+		}
+		replaceFiles(contents, tempFiles);
+	}
+
+	/**
+	 * Restores the state all resources had when the transaction began (in
+	 * memory). Resources loaded during the transaction are unloaded.
+	 */
+	public void rollback() {
+		checkActive();
+		close();
+		restore();
+	}
+
+	/**
+	 * Returns true until the transaction has been committed or rolled back.
+	 */
+	public boolean isActive() {
+		return active;
+	}
+
+	CMLResource getResource() {
+		return resource;
+	}
+
+	RefactoringModelIndex getModelIndex() {
+		return modelIndex;
+	}
+
+	ModelChangeRecorder getChangeRecorder() {
+		return changeRecorder;
+	}
+
+	/**
+	 * Resolves the resources imported by the refactored resource (the imports may
+	 * have been changed by previous refactorings) and adds them to the index.
+	 */
+	Set<CMLResource> resolveImportedResources() {
+		Set<CMLResource> importedResources = new CMLImportResolver().resolveImportedResources(resource);
+		for (CMLResource importedResource : importedResources)
+			modelIndex.index(importedResource.getContextMappingModel());
+		trackChanges();
+		return importedResources;
+	}
+
+	/**
+	 * Checks whether the model of the resource may differ from the text it has
+	 * been parsed from (or whether it has not been parsed at all).
+	 */
+	private boolean hasUnsavedChanges(Resource initialResource) {
+		if (!(initialResource instanceof XtextResource) || initialResource.getContents().isEmpty())
+			return false;
+		return ((XtextResource) initialResource).getParseResult() == null || (initialResource.isTrackingModification() && initialResource.isModified());
+	}
+
+	/**
+	 * Returns the text that represents the current model of the resource. The
+	 * parsed text is outdated if the model has been modified or the file has been
+	 * written since it was parsed (e.g. by a previous transaction).
+	 */
+	private String getCurrentText(XtextResource xtextResource) {
+		String parsedText = ChangedElementsSerializer.getParsedText(xtextResource);
+		if (!hasUnsavedChanges(xtextResource) && parsedText != null && parsedText.equals(ChangedElementsSerializer.readText(xtextResource)))
+			return parsedText;
+		return serializer.serialize(xtextResource.getContents().get(0));
+	}
+
+	private void trackChanges() {
+		for (Resource currentResource : getResources()) {
+			currentResource.setTrackingModification(true);
+			changeRecorder.beginRecording(currentResource);
+		}
+	}
+
+	private List<Resource> getChangedResources() {
+		List<Resource> changedResources = Lists.newArrayList();
+		for (Resource currentResource : getResources()) {
+			if (currentResource.isModified())
+				changedResources.add(currentResource);
+		}
+		return changedResources;
+	}
+
+	/**
+	 * Fails if a changed resource has more errors of a kind than it had when the
+	 * transaction began.
+	 */
+	private void validate(List<Resource> changedResources) {
+		if (validator == null)
+			return;
+		Multiset<String> remainingInitialErrors = HashMultiset.create(initialErrors);
+		Set<String> errors = Sets.newLinkedHashSet();
+		for (Resource changedResource : changedResources) {
+			for (Issue error : getErrorIssues(changedResource)) {
+				if (!remainingInitialErrors.remove(getErrorKey(changedResource, error)))
+					errors.add(error.getMessage());
+			}
+		}
+		if (!errors.isEmpty())
+			throw new RefactoringSerializationException(errors);
+	}
+
+	private Multiset<String> getErrors(Collection<Resource> resources) {
+		Multiset<String> errors = HashMultiset.create();
+		if (validator == null)
+			return errors;
+		for (Resource resourceToValidate : resources) {
+			for (Issue error : getErrorIssues(resourceToValidate))
+				errors.add(getErrorKey(resourceToValidate, error));
+		}
+		return errors;
+	}
+
+	private List<Issue> getErrorIssues(Resource resourceToValidate) {
+		List<Issue> errors = Lists.newArrayList();
+		if (resourceToValidate.getContents().isEmpty() || !(resourceToValidate.getContents().get(0) instanceof ContextMappingModel))
+			return errors;
+		for (Issue issue : validator.validate(resourceToValidate, CheckMode.ALL, CancelIndicator.NullImpl)) {
+			if (issue.getSeverity() == Severity.ERROR)
+				errors.add(issue);
+		}
+		return errors;
+	}
+
+	private String getErrorKey(Resource validatedResource, Issue error) {
+		return validatedResource.getURI() + ": " + error.getMessage();
+	}
+
+	private byte[] serialize(Resource changedResource, ChangedElementsSerializer changedElementsSerializer) {
+		try {
+			if (changedResource instanceof XtextResource && !changedResource.getContents().isEmpty()) {
+				CMLResource cmlResource = new CMLResource(changedResource);
+				String text = changedElementsSerializer.serializeChangedElements(cmlResource);
+				return (text != null ? text : changedElementsSerializer.serializeResource(cmlResource)).getBytes(((XtextResource) changedResource).getEncoding());
+			}
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			changedResource.save(outputStream, Collections.emptyMap());
+			return outputStream.toByteArray();
+		} catch (IOException e) {
+			throw new ContextMapperApplicationException("The resource '" + changedResource.getURI().toString() + "' cannot be serialized.", e);
+		}
+	}
+
+	/**
+	 * Writes the contents of resources with a file URI into temporary files next
+	 * to the files.
+	 */
+	private void writeTempFiles(Map<Resource, byte[]> contents, Map<Resource, Path> tempFiles) {
+		for (Map.Entry<Resource, byte[]> content : contents.entrySet()) {
+			if (!content.getKey().getURI().isFile())
+				continue;
+			Path file = new File(content.getKey().getURI().toFileString()).toPath();
+			try {
+				Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+				tempFiles.put(content.getKey(), tempFile);
+				Files.write(tempFile, content.getValue());
+			} catch (IOException e) {
+				throw new ContextMapperApplicationException("The file '" + content.getKey().getURI().toString() + "' cannot be written. No file has been changed.", e);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the files by the temporary files (resources without file URI are
+	 * written directly).
+	 */
+	private void replaceFiles(Map<Resource, byte[]> contents, Map<Resource, Path> tempFiles) {
+		List<String> persistedResources = Lists.newArrayList();
+		for (Map.Entry<Resource, byte[]> content : contents.entrySet()) {
+			Resource changedResource = content.getKey();
+			try {
+				if (tempFiles.containsKey(changedResource))
+					Files.move(tempFiles.get(changedResource), new File(changedResource.getURI().toFileString()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+				else
+					write(changedResource, content.getValue());
+			} catch (IOException e) {
+				deleteTempFiles(tempFiles.values());
+				throw new ContextMapperApplicationException("The file '" + changedResource.getURI().toString() + "' cannot be written. Files written already: "
+						+ (persistedResources.isEmpty() ? "none" : String.join(", ", persistedResources)), e);
+			}
+			changedResource.setModified(false);
+			persistedResources.add(changedResource.getURI().toString());
+		}
+	}
+
+	private void write(Resource changedResource, byte[] content) throws IOException {
+		try (OutputStream outputStream = ChangedElementsSerializer.getURIConverter(changedResource).createOutputStream(changedResource.getURI())) {
+			outputStream.write(content);
+		}
+	}
+
+	private void deleteTempFiles(Collection<Path> tempFiles) {
+		for (Path tempFile : tempFiles) {
+			try {
+				Files.deleteIfExists(tempFile);
+			} catch (IOException e) {
+				// the file is left behind
+			}
+		}
+	}
+
+	private void restore() {
+		for (Resource currentResource : getResources()) {
+			if (!initialResources.contains(currentResource)) {
+				currentResource.unload();
+				currentResource.getResourceSet().getResources().remove(currentResource);
+			} else if (initialTexts.containsKey(currentResource)) {
+				reparse((XtextResource) currentResource);
+			}
+		}
+	}
+
+	private void reparse(XtextResource xtextResource) {
+		try {
+			xtextResource.reparse(initialTexts.get(xtextResource));
+		} catch (IOException e) {
+			throw new ContextMapperApplicationException("The resource '" + xtextResource.getURI().toString() + "' cannot be restored.", e);
+		}
+		xtextResource.setModified(initiallyModifiedResources.contains(xtextResource));
+	}
+
+	private List<Resource> getResources() {
+		if (resource.getResourceSet() != null)
+			return Lists.newArrayList(resource.getResourceSet().getResources());
+		return Lists.newArrayList(resource.getXtextResource());
+	}
+
+	private void checkActive() {
+		if (!active)
+			throw new ContextMapperApplicationException("The refactoring transaction has already been committed or rolled back.");
+	}
+
+	private void close() {
+		active = false;
+		changeRecorder.endRecording();
+		modelIndex.dispose();
+	}
+
+}
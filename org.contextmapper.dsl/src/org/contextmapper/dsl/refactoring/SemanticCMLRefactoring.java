@@ -57,4 +57,15 @@ public interface SemanticCMLRefactoring {
 	 */
 	void persistChanges(ISerializer serializer);
 
+	/**
+	 * Like 'persistChanges', but only the text of the model elements that have
+	 * been changed by the refactoring is replaced (if possible).
+	 * 
+	 * @param serializer the serializer that will be used to serialize the changed
+	 *                   model elements.
+	 */
+	default void persistChangedElements(ISerializer serializer) {
+		persistChanges(serializer);
+	}
+
 }
@@ -45,4 +45,9 @@ public class SplitBoundedContextByFeatures implements SemanticCMLRefactoring {
 		this.coreAR.persistChanges(serializer);
 	}
 
+	@Override
+	public void persistChangedElements(ISerializer serializer) {
+		this.coreAR.persistChangedElements(serializer);
+	}
+
 }
@@ -49,4 +49,9 @@ public class SplitBoundedContextByOwner implements SemanticCMLRefactoring {
 		this.coreAR.persistChanges(serializer);
 	}
 
+	@Override
+	public void persistChangedElements(ISerializer serializer) {
+		this.coreAR.persistChangedElements(serializer);
+	}
+
 }
@@ -15,12 +15,10 @@
  */
 package org.contextmapper.dsl.scoping;
 
-import java.util.List;
-import java.util.Set;
-import java.util.function.Predicate;
+import java.util.Map;
 
-import org.contextmapper.dsl.contextMappingDSL.impl.BoundedContextImpl;
-import org.contextmapper.dsl.contextMappingDSL.impl.DomainImpl;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.Domain;
 import org.contextmapper.tactic.dsl.tacticdsl.Association;
 import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.Reference;
@@ -28,67 +26,78 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.scoping.IScope;
-import org.eclipse.xtext.scoping.impl.SimpleScope;
+import org.eclipse.xtext.scoping.impl.FilteringScope;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.Tuples;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Maps;
+import com.google.inject.Inject;
 
 /**
  * Helper class to filter scope. For example: domain objects in domains shall
  * not refer domain objects in Bounded Contexts and vice versa.
  * 
+ * The scopes are filtered lazily (no copy of the whole scope) and the
+ * classification of the objects (part of Bounded Context or Domain) is cached
+ * per resource (the cache is cleared whenever the resource changes).
+ * 
  * @author Stefan Kapferer
  *
  */
 public class CMLScopingHelper {
 
+	private static final Object CONTAINER_KIND_CACHE_KEY = Tuples.pair(CMLScopingHelper.class, "containerKinds");
+
+	@Inject
+	private IResourceScopeCache cache = IResourceScopeCache.NullImpl.INSTANCE;
+
 	public IScope reduceReferenceScope(IScope existingScope, Reference reference, EReference eReference) {
-		// domain objects in Domains shall not refer to domain objects in Bounded
-		// Contexts and vice versa:
-		if (isPartOfBoundedContext(reference)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfDomain(ieoDesc.getEObjectOrProxy()));
-		} else if (isPartOfDomain(reference)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfBoundedContext(ieoDesc.getEObjectOrProxy()));
-		}
-		return existingScope;
+		return reduceDomainObjectScope(existingScope, reference);
 	}
 
 	public IScope reduceReferenceScope(IScope existingScope, Association association, EReference eReference) {
-		// domain objects in Domains shall not refer to domain objects in Bounded
-		// Contexts and vice versa:
-		if (isPartOfBoundedContext(association)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfDomain(ieoDesc.getEObjectOrProxy()));
-		} else if (isPartOfDomain(association)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfBoundedContext(ieoDesc.getEObjectOrProxy()));
-		}
-		return existingScope;
+		return reduceDomainObjectScope(existingScope, association);
 	}
 
-	private IScope filterScope(IScope scope, Predicate<IEObjectDescription> descriptionsToRemovePredicate) {
-		List<IEObjectDescription> descriptions = Lists.newLinkedList();
-		for (IEObjectDescription ieoDesc : scope.getAllElements()) {
-			if (!(descriptionsToRemovePredicate.test(ieoDesc)))
-				descriptions.add(ieoDesc);
-		}
-		return new SimpleScope(descriptions);
+	private IScope reduceDomainObjectScope(IScope existingScope, EObject context) {
+		// domain objects in Domains shall not refer to domain objects in Bounded
+		// Contexts and vice versa:
+		ContainerKind contextKind = getContainerKind(context);
+		if (contextKind == ContainerKind.NONE)
+			return existingScope;
+		ContainerKind kindToRemove = contextKind == ContainerKind.BOUNDED_CONTEXT ? ContainerKind.DOMAIN : ContainerKind.BOUNDED_CONTEXT;
+		return new FilteringScope(existingScope, new Predicate<IEObjectDescription>() {
+			@Override
+			public boolean apply(IEObjectDescription ieoDesc) {
+				EObject object = ieoDesc.getEObjectOrProxy();
+				return !(object instanceof DomainObject && getContainerKind(object) == kindToRemove);
+			}
+		});
 	}
 
-	private boolean isPartOfBoundedContext(EObject object) {
-		return getParentTypes(object).contains(BoundedContextImpl.class);
-	}
+	private ContainerKind getContainerKind(EObject object) {
+		EObject parent = object.eContainer();
+		if (parent == null)
+			return ContainerKind.NONE;
+		if (parent instanceof BoundedContext)
+			return ContainerKind.BOUNDED_CONTEXT;
+		if (parent instanceof Domain)
+			return ContainerKind.DOMAIN;
+		if (parent.eResource() == null)
+			return getContainerKind(parent);
 
-	private boolean isPartOfDomain(EObject object) {
-		return getParentTypes(object).contains(DomainImpl.class);
+		Map<EObject, ContainerKind> containerKinds = cache.get(CONTAINER_KIND_CACHE_KEY, parent.eResource(), () -> Maps.newConcurrentMap());
+		ContainerKind kind = containerKinds.get(parent);
+		if (kind == null) {
+			kind = getContainerKind(parent);
+			containerKinds.put(parent, kind);
+		}
+		return kind;
 	}
 
-	private Set<Class<? extends EObject>> getParentTypes(EObject object) {
-		Set<Class<? extends EObject>> parentTypes = Sets.newHashSet();
-		EObject parent = object.eContainer();
-		while (parent != null) {
-			parentTypes.add(parent.getClass());
-			parent = parent.eContainer();
-		}
-		return parentTypes;
+	private enum ContainerKind {
+		BOUNDED_CONTEXT, DOMAIN, NONE
 	}
 
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.generator.ContextMapGenerator;
+import org.contextmapper.dsl.generator.MDSLContractsGenerator;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generator.SketchMinerGenerator;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.generator.IGenerator2;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Command line entry point which validates many CML files (and optionally calls
+ * generators on them) with one injector and one shared resource set.
+ *
+ * Usage:
+ *
+ * <pre>
+ * CMLBatchCLI &lt;directory|file|glob&gt; [--output &lt;dir&gt;] [--generators contextmap,plantuml,mdsl,sketchminer] [--threads &lt;n&gt;] [--cache &lt;dir&gt;]
+ * </pre>
+ *
+ * Exits with status 1 if at least one file has errors.
+ *
+ * @author agent
+ */
+public class CMLBatchCLI {
+
+	private static final String CML_FILE_EXTENSION = ".cml";
+	private static final Map<String, Supplier<? extends IGenerator2>> GENERATORS = Maps.newLinkedHashMap();
+
+	static {
+		GENERATORS.put("contextmap", ContextMapGenerator::new);
+		GENERATORS.put("plantuml", PlantUMLGenerator::new);
+		GENERATORS.put("mdsl", MDSLContractsGenerator::new);
+		GENERATORS.put("sketchminer", SketchMinerGenerator::new);
+	}
+
+	private final PrintStream out;
+
+	CMLBatchCLI(PrintStream out) {
+		this.out = out;
+	}
+
+	public static void main(String[] args) {
+		System.exit(new CMLBatchCLI(System.out).run(args));
+	}
+
+	int run(String[] args) {
+		String input = null;
+		String outputDir = "./" + FileSystemHelper.DEFAULT_GEN_DIR;
+		List<Supplier<? extends IGenerator2>> generators = Lists.newArrayList();
+		int threads = Runtime.getRuntime().availableProcessors();
+		File parseCacheDirectory = null;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				if ("--output".equals(arg) || "-o".equals(arg)) {
+					outputDir = getValue(args, ++i, arg);
+				} else if ("--generators".equals(arg) || "-g".equals(arg)) {
+					generators = parseGenerators(getValue(args, ++i, arg));
+				} else if ("--threads".equals(arg) || "-t".equals(arg)) {
+					threads = Integer.parseInt(getValue(args, ++i, arg));
+				} else if ("--cache".equals(arg) || "-c".equals(arg)) {
+					parseCacheDirectory = new File(getValue(args, ++i, arg));
+				} else if (input == null) {
+					input = arg;
+				} else {
+					throw new IllegalArgumentException("Unexpected argument: " + arg);
+				}
+			}
+			if (input == null)
+				throw new IllegalArgumentException("Please specify a directory, file or glob pattern.");
+		} catch (IllegalArgumentException e) {
+			out.println(e.getMessage());
+			printUsage();
+			return 2;
+		}
+
+		List<File> cmlFiles = collectCMLFiles(input);
+		CMLBatchResult result = new CMLBatchProcessor(new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration(), threads, parseCacheDirectory).process(cmlFiles, outputDir,
+				generators);
+		printResult(result);
+		return result.hasErrors() ? 1 : 0;
+	}
+
+	/**
+	 * Collects the CML files for the given input: all *.cml files within a
+	 * directory (recursively), a single file, or all files matching a glob
+	 * pattern (such as "models/**&#47;*.cml").
+	 */
+	static List<File> collectCMLFiles(String input) {
+		if (!isGlobPattern(input)) {
+			Path path = Paths.get(input);
+			if (Files.isRegularFile(path))
+				return Lists.newArrayList(path.toFile());
+			return walk(path, p -> p.toString().endsWith(CML_FILE_EXTENSION));
+		}
+
+		// walk the directory in front of the first wildcard (the walked paths then
+		// have the same form as the pattern)
+		String prefix = input.substring(0, input.length() - input.replaceAll("^[^*?\\[{]*", "").length());
+		int lastSeparator = Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf(File.separatorChar));
+		Path baseDir = lastSeparator < 0 ? Paths.get("") : Paths.get(prefix.substring(0, lastSeparator + 1));
+		return walk(baseDir, FileSystems.getDefault().getPathMatcher("glob:" + input));
+	}
+
+	private static List<File> walk(Path directory, PathMatcher matcher) {
+		if (!Files.isDirectory(directory))
+			return Lists.newArrayList();
+		try (Stream<Path> paths = Files.walk(directory)) {
+			return paths.filter(Files::isRegularFile).filter(matcher::matches).sorted().map(Path::toFile).collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static boolean isGlobPattern(String input) {
+		return input.matches(".*[*?\\[{].*");
+	}
+
+	private List<Supplier<? extends IGenerator2>> parseGenerators(String generatorNames) {
+		List<Supplier<? extends IGenerator2>> generators = Lists.newArrayList();
+		for (String name : generatorNames.split(",")) {
+			Supplier<? extends IGenerator2> generator = GENERATORS.get(name.trim().toLowerCase());
+			if (generator == null)
+				throw new IllegalArgumentException("Unknown generator: " + name);
+			generators.add(generator);
+		}
+		return generators;
+	}
+
+	private String getValue(String[] args, int index, String option) {
+		if (index >= args.length)
+			throw new IllegalArgumentException("Missing value for option " + option);
+		return args[index];
+	}
+
+	private void printResult(CMLBatchResult result) {
+		for (CMLBatchResult.FileResult fileResult : result.getFileResults()) {
+			for (Issue issue : fileResult.getIssues()) {
+				if (issue.getSeverity() == Severity.ERROR || issue.getSeverity() == Severity.WARNING)
+					out.println(String.format("%s %s:%s: %s", issue.getSeverity(), fileResult.getFile().getPath(), issue.getLineNumber(), issue.getMessage()));
+			}
+			if (fileResult.getError() != null)
+				out.println(String.format("ERROR %s: %s", fileResult.getFile().getPath(), fileResult.getError().getMessage()));
+		}
+		out.println(result.getSummary());
+	}
+
+	private void printUsage() {
+		out.println("Usage: CMLBatchCLI <directory|file|glob> [--output <dir>] [--generators " + String.join(",", GENERATORS.keySet()) + "] [--threads <n>] [--cache <dir>]");
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.contextmapper.dsl.cml.CMLModelWarmUp;
+import org.contextmapper.dsl.cml.CMLParseCache;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.IGenerator2;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Injector;
+
+/**
+ * Validates many CML files and calls generators on them, using one injector
+ * and one resource set for all files (shared imports are parsed only once).
+ *
+ * The files are loaded and linked sequentially; the validation and the
+ * generators then run on a thread pool. Generators are therefore created per
+ * file (via the given suppliers) and must not modify the models or the
+ * resource set.
+ *
+ * @author agent
+ */
+class CMLBatchProcessor {
+
+	private final Injector injector;
+	private final int threads;
+	private final File parseCacheDirectory;
+
+	/**
+	 * @param parseCacheDirectory directory of the {@link CMLParseCache} or null,
+	 *                            if the files shall always be parsed
+	 */
+	CMLBatchProcessor(Injector injector, int threads, File parseCacheDirectory) {
+		if (threads < 1)
+			throw new IllegalArgumentException("Please specify at least one thread!");
+		this.injector = injector;
+		this.threads = threads;
+		this.parseCacheDirectory = parseCacheDirectory;
+	}
+
+	CMLBatchResult process(List<File> cmlFiles, String outputDir, List<Supplier<? extends IGenerator2>> generators) {
+		long loadingStart = System.currentTimeMillis();
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		if (parseCacheDirectory != null)
+			CMLParseCache.install(resourceSet, parseCacheDirectory);
+		List<LoadedFile> loadedFiles = Lists.newArrayList();
+		for (File cmlFile : cmlFiles)
+			loadedFiles.add(load(resourceSet, cmlFile));
+		long loadingTime = System.currentTimeMillis() - loadingStart;
+
+		long processingStart = System.currentTimeMillis();
+		IResourceValidator validator = injector.getInstance(IResourceValidator.class);
+		ThreadLocal<JavaIoFileSystemAccess> fileSystemAccess = ThreadLocal.withInitial(() -> FileSystemHelper.getFileSystemAccess(outputDir));
+		List<Callable<CMLBatchResult.FileResult>> tasks = Lists.newArrayList();
+		for (LoadedFile loadedFile : loadedFiles) {
+			if (loadedFile.resource != null)
+				tasks.add(() -> processFile(loadedFile.file, loadedFile.resource, validator, fileSystemAccess.get(), generators));
+			else
+				tasks.add(() -> new CMLBatchResult.FileResult(loadedFile.file, Collections.emptyList(), loadedFile.error, 0, 0));
+		}
+		List<CMLBatchResult.FileResult> fileResults = runTasks(tasks);
+		return new CMLBatchResult(fileResults, loadingTime, System.currentTimeMillis() - processingStart);
+	}
+
+	/**
+	 * Loads a CML file into the shared resource set and prepares it for the
+	 * concurrent processing.
+	 */
+	private LoadedFile load(XtextResourceSet resourceSet, File cmlFile) {
+		try {
+			CMLResource resource = new CMLResource(resourceSet.getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true));
+			CMLModelWarmUp.warmUp(resource);
+			return new LoadedFile(cmlFile, resource, null);
+		} catch (RuntimeException e) {
+			return new LoadedFile(cmlFile, null, e);
+		}
+	}
+
+	private CMLBatchResult.FileResult processFile(File cmlFile, CMLResource resource, IResourceValidator validator, JavaIoFileSystemAccess fsa,
+			List<Supplier<? extends IGenerator2>> generators) {
+		long validationStart = System.currentTimeMillis();
+		List<Issue> issues = validator.validate(resource.getXtextResource(), CheckMode.ALL, CancelIndicator.NullImpl);
+		long validationTime = System.currentTimeMillis() - validationStart;
+		if (issues.stream().anyMatch(i -> i.getSeverity() == Severity.ERROR))
+			return new CMLBatchResult.FileResult(cmlFile, issues, null, validationTime, 0);
+
+		long generationStart = System.currentTimeMillis();
+		Exception generationError = null;
+		try {
+			for (Supplier<? extends IGenerator2> generator : generators)
+				generator.get().doGenerate(resource, fsa, new GeneratorContext());
+		} catch (RuntimeException e) {
+			generationError = e;
+		}
+		return new CMLBatchResult.FileResult(cmlFile, issues, generationError, validationTime, System.currentTimeMillis() - generationStart);
+	}
+
+	private List<CMLBatchResult.FileResult> runTasks(List<Callable<CMLBatchResult.FileResult>> tasks) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<CMLBatchResult.FileResult> results = Lists.newArrayList();
+			for (Future<CMLBatchResult.FileResult> future : executor.invokeAll(tasks))
+				results.add(future.get());
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("The batch processing has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new ContextMapperApplicationException("The batch processing failed.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static class LoadedFile {
+
+		private final File file;
+		private final CMLResource resource;
+		private final Exception error;
+
+		LoadedFile(File file, CMLResource resource, Exception error) {
+			this.file = file;
+			this.resource = resource;
+			this.error = error;
+		}
+
+	}
+
+}
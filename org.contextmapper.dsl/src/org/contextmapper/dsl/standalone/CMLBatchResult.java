@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.validation.Issue;
+
+/**
+ * Result of a batch run (see
+ * {@link StandaloneContextMapperAPI#processBatch(List, String, List)}).
+ *
+ * @author agent
+ */
+public class CMLBatchResult {
+
+	private final List<FileResult> fileResults;
+	private final long loadingTimeMillis;
+	private final long processingTimeMillis;
+
+	CMLBatchResult(List<FileResult> fileResults, long loadingTimeMillis, long processingTimeMillis) {
+		this.fileResults = Collections.unmodifiableList(fileResults);
+		this.loadingTimeMillis = loadingTimeMillis;
+		this.processingTimeMillis = processingTimeMillis;
+	}
+
+	/**
+	 * The results per CML file (in the order of the input files).
+	 */
+	public List<FileResult> getFileResults() {
+		return fileResults;
+	}
+
+	/**
+	 * Time needed to load (parse and link) all CML files and their imports.
+	 */
+	public long getLoadingTimeMillis() {
+		return loadingTimeMillis;
+	}
+
+	/**
+	 * Time needed to validate all CML files and to call the generators.
+	 */
+	public long getProcessingTimeMillis() {
+		return processingTimeMillis;
+	}
+
+	public boolean hasErrors() {
+		return fileResults.stream().anyMatch(FileResult::hasErrors);
+	}
+
+	/**
+	 * Creates a human-readable timing summary of the batch run.
+	 */
+	public String getSummary() {
+		long errors = fileResults.stream().filter(FileResult::hasErrors).count();
+		long validationTime = fileResults.stream().mapToLong(FileResult::getValidationTimeMillis).sum();
+		long generationTime = fileResults.stream().mapToLong(FileResult::getGenerationTimeMillis).sum();
+		StringBuilder summary = new StringBuilder();
+		summary.append(String.format("Processed %d CML files (%d with errors)", fileResults.size(), errors)).append(System.lineSeparator());
+		summary.append(String.format("  Loading:    %d ms", loadingTimeMillis)).append(System.lineSeparator());
+		summary.append(String.format("  Processing: %d ms (validation: %d ms, generation: %d ms, summed up over all threads)", processingTimeMillis, validationTime, generationTime))
+				.append(System.lineSeparator());
+		summary.append(String.format("  Total:      %d ms", loadingTimeMillis + processingTimeMillis));
+		return summary.toString();
+	}
+
+	/**
+	 * Result of the validation and generation of one CML file.
+	 */
+	public static class FileResult {
+
+		private final File file;
+		private final List<Issue> issues;
+		private final Exception error;
+		private final long validationTimeMillis;
+		private final long generationTimeMillis;
+
+		FileResult(File file, List<Issue> issues, Exception error, long validationTimeMillis, long generationTimeMillis) {
+			this.file = file;
+			this.issues = Collections.unmodifiableList(issues);
+			this.error = error;
+			this.validationTimeMillis = validationTimeMillis;
+			this.generationTimeMillis = generationTimeMillis;
+		}
+
+		public File getFile() {
+			return file;
+		}
+
+		/**
+		 * All validation issues (errors, warnings and infos) of the file.
+		 */
+		public List<Issue> getIssues() {
+			return issues;
+		}
+
+		/**
+		 * The exception thrown while loading the file or by a generator, or null if
+		 * the file has been loaded and all generators finished successfully (or have
+		 * not been called due to validation errors).
+		 */
+		public Exception getError() {
+			return error;
+		}
+
+		public long getValidationTimeMillis() {
+			return validationTimeMillis;
+		}
+
+		public long getGenerationTimeMillis() {
+			return generationTimeMillis;
+		}
+
+		public boolean hasErrors() {
+			return error != null || issues.stream().anyMatch(i -> i.getSeverity() == Severity.ERROR);
+		}
+
+	}
+
+}
@@ -31,13 +31,15 @@ public class FileSystemHelper {
 	public static final String DEFAULT_GEN_DIR = "src-gen";
 
 	/**
-	 * Get file system access with specific output path.
+	 * Get file system access with specific output path. Generators stream text
+	 * files into this file system access (see
+	 * {@link StreamingJavaIoFileSystemAccess}).
 	 * 
 	 * @param outputPath the path where you want to persist generated stuff.
 	 * @return the file system access object
 	 */
 	public static JavaIoFileSystemAccess getFileSystemAccess(String outputPath) {
-		JavaIoFileSystemAccess fsa = new JavaIoFileSystemAccess();
+		JavaIoFileSystemAccess fsa = new StreamingJavaIoFileSystemAccess();
 		Guice.createInjector(new AbstractGenericModule() {
 			public Class<? extends IEncodingProvider> bindIEncodingProvider() {
 				return IEncodingProvider.Runtime.class;
@@ -16,17 +16,30 @@
 package org.contextmapper.dsl.standalone;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
 
 import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLParseCache;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.generator.incremental.IncrementalFileSystemAccess;
+import org.contextmapper.dsl.refactoring.RefactoringTransaction;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.generator.IGenerator2;
 import org.eclipse.xtext.serializer.ISerializer;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -36,29 +49,46 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 	@Inject
 	private ISerializer serializer;
 
+	@Inject
+	private IResourceValidator validator;
+
+	private final Injector injector;
+	private File parseCacheDirectory;
+	private boolean incrementalGeneration = false;
+
 	public StandaloneContextMapper() {
-		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
 		injector.injectMembers(this);
 	}
 
 	@Override
 	public CMLResource loadCML(String filepath) {
-		return new CMLResource(new ResourceSetImpl().getResource(URI.createURI(filepath), true));
+		return new CMLResource(createResourceSet().getResource(URI.createURI(filepath), true));
 	}
 
 	@Override
 	public CMLResource loadCML(File cmlFile) {
-		return new CMLResource(new ResourceSetImpl().getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true));
+		return new CMLResource(createResourceSet().getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true));
 	}
 
 	@Override
 	public void callGenerator(CMLResource cml, IGenerator2 generator) {
-		generator.doGenerate(cml, FileSystemHelper.getFileSystemAccess(), new GeneratorContext());
+		callGenerator(cml, generator, FileSystemHelper.getFileSystemAccess());
 	}
 
 	@Override
 	public void callGenerator(CMLResource cml, IGenerator2 generator, String outputDir) {
-		generator.doGenerate(cml, FileSystemHelper.getFileSystemAccess(outputDir), new GeneratorContext());
+		callGenerator(cml, generator, FileSystemHelper.getFileSystemAccess(outputDir));
+	}
+
+	private void callGenerator(CMLResource cml, IGenerator2 generator, IFileSystemAccess2 fsa) {
+		if (!incrementalGeneration) {
+			generator.doGenerate(cml, fsa, new GeneratorContext());
+			return;
+		}
+		IncrementalFileSystemAccess incrementalFsa = new IncrementalFileSystemAccess(fsa);
+		generator.doGenerate(cml, incrementalFsa, new GeneratorContext());
+		incrementalFsa.saveManifest();
 	}
 
 	@Override
@@ -80,7 +110,56 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 	@Override
 	public void applyRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring) {
 		refactoring.refactor(cml);
-		refactoring.persistChanges(serializer);
+		refactoring.persistChangedElements(serializer);
+	}
+
+	@Override
+	public void applyRefactorings(CMLResource cml, List<SemanticCMLRefactoring> refactorings) {
+		RefactoringTransaction transaction = beginRefactoringTransaction(cml);
+		for (SemanticCMLRefactoring refactoring : refactorings)
+			transaction.apply(refactoring);
+		transaction.commit();
+	}
+
+	@Override
+	public RefactoringTransaction beginRefactoringTransaction(CMLResource cml) {
+		return new RefactoringTransaction(cml, serializer, validator);
+	}
+
+	@Override
+	public void enableParseCache(File cacheDirectory) {
+		this.parseCacheDirectory = cacheDirectory;
+	}
+
+	@Override
+	public void enableIncrementalGeneration() {
+		this.incrementalGeneration = true;
+	}
+
+	private ResourceSet createResourceSet() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		if (parseCacheDirectory != null)
+			CMLParseCache.install(resourceSet, parseCacheDirectory);
+		return resourceSet;
+	}
+
+	@Override
+	public List<Issue> validate(CMLResource cml) {
+		return validator.validate(cml.getXtextResource(), CheckMode.ALL, CancelIndicator.NullImpl);
+	}
+
+	@Override
+	public CMLBatchResult processBatch(List<File> cmlFiles, String outputDir, List<Supplier<? extends IGenerator2>> generators) {
+		return new CMLBatchProcessor(injector, Runtime.getRuntime().availableProcessors(), parseCacheDirectory).process(cmlFiles, outputDir, generators);
+	}
+
+	@Override
+	public CMLResource createSyntheticCML(SyntheticCMLModelGenerator generator, File directory) {
+		try {
+			return loadCML(generator.writeFiles(directory));
+		} catch (IOException e) {
+			throw new ContextMapperApplicationException("Could not write synthetic CML model to '" + directory.getAbsolutePath() + "'.", e);
+		}
 	}
 
 }
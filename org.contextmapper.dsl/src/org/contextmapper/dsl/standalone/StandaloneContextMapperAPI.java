@@ -16,10 +16,14 @@
 package org.contextmapper.dsl.standalone;
 
 import java.io.File;
+import java.util.List;
+import java.util.function.Supplier;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.RefactoringTransaction;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
 import org.eclipse.xtext.generator.IGenerator2;
+import org.eclipse.xtext.validation.Issue;
 
 /**
  * Interface that eases the usage of Context Mapper in standalone (usage as
@@ -96,4 +100,79 @@ public interface StandaloneContextMapperAPI {
 	 * @param refactoring the refactoring that shall be applied
 	 */
 	void applyRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring);
+
+	/**
+	 * Applies several refactorings on a CML model and persists the result once.
+	 * The refactorings are applied in memory one after the other; the changed
+	 * files are validated and written after the last refactoring. If a
+	 * refactoring fails or the result is invalid, no file is written and the
+	 * model is rolled back in memory.
+	 * 
+	 * @param cml          the model on which the refactorings shall be applied
+	 * @param refactorings the refactorings that shall be applied (in this order)
+	 */
+	void applyRefactorings(CMLResource cml, List<SemanticCMLRefactoring> refactorings);
+
+	/**
+	 * Begins a refactoring transaction on a CML model: refactorings are applied in
+	 * memory with {@link RefactoringTransaction#apply(SemanticCMLRefactoring)} and
+	 * persisted with {@link RefactoringTransaction#commit()} or rolled back with
+	 * {@link RefactoringTransaction#rollback()}.
+	 * 
+	 * @param cml the model on which the refactorings shall be applied
+	 * @return the new transaction
+	 */
+	RefactoringTransaction beginRefactoringTransaction(CMLResource cml);
+
+	/**
+	 * Enables the persistent parse cache: parsed CML files (including imported
+	 * ones) are stored in the given directory and loaded from there as long as
+	 * their content does not change. Affects all CML files loaded afterwards.
+	 * 
+	 * @param cacheDirectory the directory in which the parsed files are stored
+	 */
+	void enableParseCache(File cacheDirectory);
+
+	/**
+	 * Enables incremental generation for all subsequent generator calls: the
+	 * generators only create the files whose input (model elements and generator
+	 * options) changed since the last generation into the same output directory,
+	 * and files whose content did not change are not rewritten. The fingerprints
+	 * are stored in a manifest file in the output directory.
+	 */
+	void enableIncrementalGeneration();
+
+	/**
+	 * Validates a CML model.
+	 * 
+	 * @param cml the CML resource that shall be validated
+	 * @return all issues (errors, warnings and infos) of the model
+	 */
+	List<Issue> validate(CMLResource cml);
+
+	/**
+	 * Validates many CML files and calls the given generators for all files
+	 * without validation errors. All files are loaded into one shared resource set
+	 * (imports shared by several files are loaded only once); the validation and
+	 * the generators run on a thread pool (one thread per available processor).
+	 * 
+	 * @param cmlFiles   the *.cml files that shall be processed
+	 * @param outputDir  the directory in which you want to generate the output
+	 *                   (start with "./", relative to your execution directory)
+	 * @param generators suppliers for the generators that shall be called (a new
+	 *                   generator instance is requested per file)
+	 * @return the validation issues and timings per file
+	 */
+	CMLBatchResult processBatch(List<File> cmlFiles, String outputDir, List<Supplier<? extends IGenerator2>> generators);
+
+	/**
+	 * Writes a synthetic CML model (for load tests and benchmarks) into the given
+	 * directory and loads it.
+	 * 
+	 * @param generator the generator configured with the desired model size
+	 * @param directory the directory in which the *.cml files shall be stored
+	 * @return the CMLResource of the main file (which imports all other files)
+	 */
+	CMLResource createSyntheticCML(SyntheticCMLModelGenerator generator, File directory);
+
 }
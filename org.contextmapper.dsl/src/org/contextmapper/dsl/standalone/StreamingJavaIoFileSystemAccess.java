@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.contextmapper.dsl.generator.streaming.StreamingFileSystemAccess;
+import org.contextmapper.dsl.generator.streaming.TextContent;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+/**
+ * File system access of the standalone API. Text files can be streamed into
+ * the output directory (see {@link StreamingFileSystemAccess}).
+ * 
+ * @author agent
+ */
+public class StreamingJavaIoFileSystemAccess extends JavaIoFileSystemAccess implements StreamingFileSystemAccess {
+
+	/**
+	 * Streams the content into a temporary file that replaces the target file
+	 * once it is complete. Thereby, the content can still read the old file (as
+	 * the MDSL generator does for protected regions) and a failing generator
+	 * does not leave a truncated file.
+	 */
+	@Override
+	public void generateFile(String fileName, TextContent content) throws RuntimeIOException {
+		URI uri = getURI(fileName);
+		Path file = new File(uri.toFileString()).toPath();
+		Path tempFile = null;
+		try {
+			Files.createDirectories(file.getParent());
+			tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempFile, Charset.forName(getEncoding(uri)))) {
+				content.writeTo(writer);
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new RuntimeIOException(e);
+		} finally {
+			deleteIfExists(tempFile);
+		}
+	}
+
+	private void deleteIfExists(Path tempFile) {
+		if (tempFile == null)
+			return;
+		try {
+			Files.deleteIfExists(tempFile);
+		} catch (IOException e) {
+			// the file is left behind
+		}
+	}
+
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.Application;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.CommandInvokationStep;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.DomainEventProductionStep;
+import org.contextmapper.dsl.contextMappingDSL.DownstreamRole;
+import org.contextmapper.dsl.contextMappingDSL.EitherCommandOrOperation;
+import org.contextmapper.dsl.contextMappingDSL.Flow;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.contextmapper.dsl.contextMappingDSL.NormalFeature;
+import org.contextmapper.dsl.contextMappingDSL.SharedKernel;
+import org.contextmapper.dsl.contextMappingDSL.SingleCommandInvokation;
+import org.contextmapper.dsl.contextMappingDSL.SingleEventProduction;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamRole;
+import org.contextmapper.dsl.contextMappingDSL.UseCase;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.tactic.dsl.tacticdsl.Attribute;
+import org.contextmapper.tactic.dsl.tacticdsl.CommandEvent;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainEvent;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.resource.SaveOptions;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Creates large (synthetic but valid) CML models for load tests and
+ * benchmarks. The models are built with the EMF factories and serialized with
+ * the CML serializer; the main file contains the Context Map and imports a
+ * configurable number of files among which the Bounded Contexts (including
+ * their use cases) are distributed.
+ *
+ * Naming scheme: Bounded Contexts "Context{i}", Aggregates "Aggregate{i}_{j}",
+ * Entities "Entity{i}_{j}_{k}", use cases "UseCase{i}_{j}_{u}" and flows
+ * "Flow{i}_{f}" (with the commands "Command{i}_{f}_{s}" and events
+ * "Event{i}_{f}_{s}").
+ *
+ * The CML language must be registered (for example by creating the
+ * {@link StandaloneContextMapperAPI} or by calling the
+ * ContextMappingDSLStandaloneSetup) before models can be serialized.
+ *
+ * @author agent
+ */
+public class SyntheticCMLModelGenerator {
+
+	public static final String MAIN_FILE = "main.cml";
+
+	private static final String[] FEATURE_VERBS = new String[] { "create", "read", "update", "delete" };
+
+	private int boundedContexts = 10;
+	private int aggregatesPerContext = 3;
+	private int entitiesPerAggregate = 3;
+	private int attributesPerEntity = 3;
+	private int relationshipsPerContext = 2;
+	private int sharedKernels = 0;
+	private int useCasesPerAggregate = 0;
+	private int featuresPerUseCase = 1;
+	private int flowsPerContext = 0;
+	private int stepsPerFlow = 2;
+	private int importedFiles = 0;
+
+	/**
+	 * Creates the models in the given resource set: one resource for the main file
+	 * (with the given URI) and one resource for every imported file (in the same
+	 * directory). The main resource is the first one in the returned list.
+	 */
+	public List<Resource> createResources(ResourceSet resourceSet, URI mainFileURI) {
+		checkParameters();
+		List<Resource> resources = Lists.newArrayList();
+		ContextMappingModel mainModel = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		resources.add(createResource(resourceSet, mainFileURI, mainModel));
+
+		List<ContextMappingModel> contextModels = Lists.newArrayList();
+		for (int f = 0; f < importedFiles; f++) {
+			ContextMappingModel importedModel = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+			resources.add(createResource(resourceSet, mainFileURI.trimSegments(1).appendSegment(getImportedFileName(f)), importedModel));
+			contextModels.add(importedModel);
+
+			Import modelImport = ContextMappingDSLFactory.eINSTANCE.createImport();
+			modelImport.setImportURI("./" + getImportedFileName(f));
+			mainModel.getImports().add(modelImport);
+		}
+		if (contextModels.isEmpty())
+			contextModels.add(mainModel);
+
+		List<BoundedContext> contexts = Lists.newArrayList();
+		for (int i = 0; i < boundedContexts; i++) {
+			ContextMappingModel model = contextModels.get(i % contextModels.size());
+			BoundedContext context = createBoundedContext(model, i);
+			model.getBoundedContexts().add(context);
+			contexts.add(context);
+		}
+		mainModel.setMap(createContextMap(contexts));
+		return resources;
+	}
+
+	/**
+	 * Creates the content of all files (file name -> CML), the main file first.
+	 */
+	public Map<String, String> createFiles() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		Map<String, String> files = new LinkedHashMap<>();
+		for (Resource resource : createResources(resourceSet, URI.createFileURI(new File(MAIN_FILE).getAbsolutePath()))) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			try {
+				resource.save(outputStream, SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+			} catch (IOException e) {
+				throw new ContextMapperApplicationException("Could not serialize synthetic CML model.", e);
+			}
+			files.put(resource.getURI().lastSegment(), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+		}
+		return files;
+	}
+
+	/**
+	 * Writes all files into the given directory and returns the main file.
+	 */
+	public File writeFiles(File directory) throws IOException {
+		Files.createDirectories(directory.toPath());
+		for (Map.Entry<String, String> file : createFiles().entrySet())
+			Files.write(new File(directory, file.getKey()).toPath(), file.getValue().getBytes(StandardCharsets.UTF_8));
+		return new File(directory, MAIN_FILE);
+	}
+
+	private Resource createResource(ResourceSet resourceSet, URI uri, ContextMappingModel model) {
+		Resource resource = resourceSet.createResource(uri);
+		if (resource == null)
+			throw new ContextMapperApplicationException("The CML language is not registered; initialize the standalone API before creating synthetic models.");
+		resource.getContents().add(model);
+		return resource;
+	}
+
+	private String getImportedFileName(int index) {
+		return "contexts" + index + ".cml";
+	}
+
+	private ContextMap createContextMap(List<BoundedContext> contexts) {
+		ContextMap map = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		map.setName("SyntheticMap");
+		map.getBoundedContexts().addAll(contexts);
+		for (int i = 0; i < contexts.size(); i++) {
+			for (int r = 1; r <= relationshipsPerContext; r++) {
+				BoundedContext upstream = contexts.get(i);
+				UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+				relationship.setUpstream(upstream);
+				relationship.setDownstream(contexts.get((i + r) % contexts.size()));
+				relationship.getUpstreamRoles().add(UpstreamRole.OPEN_HOST_SERVICE);
+				relationship.getUpstreamRoles().add(UpstreamRole.PUBLISHED_LANGUAGE);
+				relationship.getDownstreamRoles().add(DownstreamRole.ANTICORRUPTION_LAYER);
+				if (!upstream.getAggregates().isEmpty())
+					relationship.getUpstreamExposedAggregates().add(upstream.getAggregates().get(0));
+				map.getRelationships().add(relationship);
+			}
+		}
+		for (int k = 0; k < sharedKernels; k++) {
+			SharedKernel sharedKernel = ContextMappingDSLFactory.eINSTANCE.createSharedKernel();
+			sharedKernel.setParticipant1(contexts.get(2 * k));
+			sharedKernel.setParticipant2(contexts.get(2 * k + 1));
+			map.getRelationships().add(sharedKernel);
+		}
+		return map;
+	}
+
+	private BoundedContext createBoundedContext(ContextMappingModel model, int context) {
+		BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName("Context" + context);
+		for (int a = 0; a < aggregatesPerContext; a++)
+			boundedContext.getAggregates().add(createAggregate(model, context + "_" + a));
+		if (flowsPerContext > 0)
+			boundedContext.setApplication(createApplication(context));
+		return boundedContext;
+	}
+
+	private Aggregate createAggregate(ContextMappingModel model, String suffix) {
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("Aggregate" + suffix);
+		Entity previous = null;
+		for (int e = 0; e < entitiesPerAggregate; e++) {
+			Entity entity = createEntity(suffix + "_" + e);
+			entity.setAggregateRoot(e == 0);
+			if (previous != null)
+				previous.getReferences().add(createReference(entity));
+			aggregate.getDomainObjects().add(entity);
+			previous = entity;
+		}
+		for (int u = 0; u < useCasesPerAggregate; u++) {
+			UseCase useCase = createUseCase(suffix + "_" + u);
+			model.getUserRequirements().add(useCase);
+			aggregate.getUserRequirements().add(useCase);
+		}
+		return aggregate;
+	}
+
+	private Entity createEntity(String suffix) {
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName("Entity" + suffix);
+		for (int a = 0; a < attributesPerEntity; a++) {
+			Attribute attribute = TacticdslFactory.eINSTANCE.createAttribute();
+			attribute.setType("String");
+			attribute.setName("attribute" + a);
+			entity.getAttributes().add(attribute);
+		}
+		return entity;
+	}
+
+	private Reference createReference(Entity target) {
+		Reference reference = TacticdslFactory.eINSTANCE.createReference();
+		reference.setName("next");
+		reference.setDomainObjectType(target);
+		return reference;
+	}
+
+	private UseCase createUseCase(String suffix) {
+		UseCase useCase = ContextMappingDSLFactory.eINSTANCE.createUseCase();
+		useCase.setName("UseCase" + suffix);
+		useCase.setRole("User");
+		for (int f = 0; f < featuresPerUseCase; f++) {
+			NormalFeature feature = ContextMappingDSLFactory.eINSTANCE.createNormalFeature();
+			feature.setVerb(FEATURE_VERBS[f % FEATURE_VERBS.length]);
+			feature.setEntityArticle("a");
+			feature.setEntity("Object" + suffix + "_" + f);
+			useCase.getFeatures().add(feature);
+		}
+		return useCase;
+	}
+
+	/**
+	 * Every flow is a chain of steps: "command C_s emits event E_s" followed by
+	 * "event E_s triggers command C_s+1".
+	 */
+	private Application createApplication(int context) {
+		Application application = ContextMappingDSLFactory.eINSTANCE.createApplication();
+		application.setName("Application" + context);
+		for (int f = 0; f < flowsPerContext; f++) {
+			Flow flow = ContextMappingDSLFactory.eINSTANCE.createFlow();
+			flow.setName("Flow" + context + "_" + f);
+			DomainEvent previousEvent = null;
+			for (int s = 0; s < stepsPerFlow; s++) {
+				CommandEvent command = TacticdslFactory.eINSTANCE.createCommandEvent();
+				command.setName("Command" + context + "_" + f + "_" + s);
+				application.getCommands().add(command);
+				DomainEvent event = TacticdslFactory.eINSTANCE.createDomainEvent();
+				event.setName("Event" + context + "_" + f + "_" + s);
+				application.getEvents().add(event);
+
+				if (previousEvent != null)
+					flow.getSteps().add(createCommandInvokationStep(previousEvent, command));
+				flow.getSteps().add(createEventProductionStep(command, event));
+				previousEvent = event;
+			}
+			if (!flow.getSteps().isEmpty())
+				application.getFlows().add(flow);
+		}
+		return application;
+	}
+
+	private DomainEventProductionStep createEventProductionStep(CommandEvent command, DomainEvent event) {
+		EitherCommandOrOperation action = ContextMappingDSLFactory.eINSTANCE.createEitherCommandOrOperation();
+		action.setCommand(command);
+		SingleEventProduction eventProduction = ContextMappingDSLFactory.eINSTANCE.createSingleEventProduction();
+		eventProduction.getEvents().add(event);
+		DomainEventProductionStep step = ContextMappingDSLFactory.eINSTANCE.createDomainEventProductionStep();
+		step.setAction(action);
+		step.setEventProduction(eventProduction);
+		return step;
+	}
+
+	private CommandInvokationStep createCommandInvokationStep(DomainEvent event, CommandEvent command) {
+		SingleCommandInvokation invokation = ContextMappingDSLFactory.eINSTANCE.createSingleCommandInvokation();
+		invokation.getCommands().add(command);
+		CommandInvokationStep step = ContextMappingDSLFactory.eINSTANCE.createCommandInvokationStep();
+		step.getEvents().add(event);
+		step.setAction(invokation);
+		return step;
+	}
+
+	private void checkParameters() {
+		if (boundedContexts < 1)
+			throw new ContextMapperApplicationException("A synthetic model needs at least one Bounded Context.");
+		if (relationshipsPerContext >= boundedContexts)
+			throw new ContextMapperApplicationException("There must be less relationships per Bounded Context than Bounded Contexts.");
+		if (2 * sharedKernels > boundedContexts)
+			throw new ContextMapperApplicationException("Every Shared Kernel needs two Bounded Contexts of its own.");
+	}
+
+	/**
+	 * Number of Bounded Contexts (default: 10).
+	 */
+	public void setBoundedContexts(int boundedContexts) {
+		this.boundedContexts = boundedContexts;
+	}
+
+	/**
+	 * Number of Aggregates per Bounded Context (default: 3).
+	 */
+	public void setAggregatesPerContext(int aggregatesPerContext) {
+		this.aggregatesPerContext = aggregatesPerContext;
+	}
+
+	/**
+	 * Number of Entities per Aggregate (default: 3). The first Entity is the
+	 * aggregate root; every Entity references the next one.
+	 */
+	public void setEntitiesPerAggregate(int entitiesPerAggregate) {
+		this.entitiesPerAggregate = entitiesPerAggregate;
+	}
+
+	/**
+	 * Number of (String) attributes per Entity (default: 3).
+	 */
+	public void setAttributesPerEntity(int attributesPerEntity) {
+		this.attributesPerEntity = attributesPerEntity;
+	}
+
+	/**
+	 * Number of upstream-downstream relationships per Bounded Context on the
+	 * Context Map (default: 2); must be less than the number of Bounded Contexts.
+	 */
+	public void setRelationshipsPerContext(int relationshipsPerContext) {
+		this.relationshipsPerContext = relationshipsPerContext;
+	}
+
+	/**
+	 * Number of Shared Kernels on the Context Map (default: 0), added after the
+	 * upstream-downstream relationships. The Shared Kernel k is between the
+	 * Bounded Contexts "Context{2k}" and "Context{2k+1}".
+	 */
+	public void setSharedKernels(int sharedKernels) {
+		this.sharedKernels = sharedKernels;
+	}
+
+	/**
+	 * Number of use cases per Aggregate (default: 0).
+	 */
+	public void setUseCasesPerAggregate(int useCasesPerAggregate) {
+		this.useCasesPerAggregate = useCasesPerAggregate;
+	}
+
+	/**
+	 * Number of features (interactions) per use case (default: 1).
+	 */
+	public void setFeaturesPerUseCase(int featuresPerUseCase) {
+		this.featuresPerUseCase = featuresPerUseCase;
+	}
+
+	/**
+	 * Number of flows in the application layer of every Bounded Context (default:
+	 * 0).
+	 */
+	public void setFlowsPerContext(int flowsPerContext) {
+		this.flowsPerContext = flowsPerContext;
+	}
+
+	/**
+	 * Number of commands (each emitting one event) per flow (default: 2).
+	 */
+	public void setStepsPerFlow(int stepsPerFlow) {
+		this.stepsPerFlow = stepsPerFlow;
+	}
+
+	/**
+	 * Number of files imported by the main file, among which the Bounded Contexts
+	 * are distributed (default: 0; all Bounded Contexts in the main file).
+	 */
+	public void setImportedFiles(int importedFiles) {
+		this.importedFiles = importedFiles;
+	}
+
+}
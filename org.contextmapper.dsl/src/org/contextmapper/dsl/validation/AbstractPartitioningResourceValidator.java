@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.validation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.validation.AbstractInjectableValidator;
+import org.eclipse.xtext.validation.CancelableDiagnostician;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.validation.ResourceValidatorImpl;
+import org.eclipse.xtext.validation.impl.ConcreteSyntaxEValidator;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Base class for resource validators which split the validation of a
+ * {@link ContextMappingModel} into partitions: the checks on the root model
+ * itself and one partition per top-level element (Bounded Context, Domain,
+ * Context Map, user requirement, etc.) including its content.
+ *
+ * @author agent
+ */
+public abstract class AbstractPartitioningResourceValidator extends ResourceValidatorImpl {
+
+	/**
+	 * Creates the validation options for all partitions of one validation pass.
+	 * The options contain state which is shared by all partitions (such as the
+	 * name index of the {@link UniquenessValidator}).
+	 */
+	protected Map<Object, Object> createValidationOptions(XtextResource resource, CheckMode mode, CancelIndicator monitor) {
+		Map<Object, Object> options = Maps.newHashMap();
+		options.put(CheckMode.KEY, mode);
+		options.put(CancelableDiagnostician.CANCEL_INDICATOR, monitor);
+		options.put(ConcreteSyntaxEValidator.DISABLE_CONCRETE_SYNTAX_EVALIDATOR, Boolean.TRUE);
+		options.put(EValidator.class, getDiagnostician());
+		options.put(AbstractInjectableValidator.CURRENT_LANGUAGE_NAME, resource.getLanguageName());
+		options.put(UniquenessValidator.NAME_INDEX_CONTEXT_KEY, new ConcurrentHashMap<>());
+		return options;
+	}
+
+	/**
+	 * Runs the checks on the root model itself (not on its content).
+	 */
+	protected void validateRootModel(ContextMappingModel model, Map<Object, Object> options, IAcceptor<Issue> acceptor) {
+		Map<Object, Object> rootOptions = Maps.newHashMap(options);
+		rootOptions.put(Diagnostician.VALIDATE_RECURSIVELY, Boolean.FALSE);
+		BasicDiagnostic rootDiagnostic = getDiagnostician().createDefaultDiagnostic(model);
+		getDiagnostician().validate(model.eClass(), model, rootDiagnostic, rootOptions);
+		acceptDiagnostic(rootDiagnostic, acceptor);
+	}
+
+	/**
+	 * Validates a top-level element of the model (including its content).
+	 */
+	protected void validateUnit(EObject unit, Map<Object, Object> options, IAcceptor<Issue> acceptor) {
+		acceptDiagnostic(getDiagnostician().validate(unit, options), acceptor);
+	}
+
+	private void acceptDiagnostic(Diagnostic diagnostic, IAcceptor<Issue> acceptor) {
+		if (diagnostic.getChildren().isEmpty()) {
+			issueFromEValidatorDiagnostic(diagnostic, acceptor);
+		} else {
+			for (Diagnostic childDiagnostic : diagnostic.getChildren())
+				issueFromEValidatorDiagnostic(childDiagnostic, acceptor);
+		}
+	}
+
+}
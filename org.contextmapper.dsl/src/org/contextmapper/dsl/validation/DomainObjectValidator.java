@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
 import org.contextmapper.dsl.cml.CMLTypeChecker;
+import org.contextmapper.dsl.cml.CMLTypeIndex;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Subdomain;
@@ -35,6 +36,7 @@ import org.contextmapper.tactic.dsl.tacticdsl.Entity;
 import org.contextmapper.tactic.dsl.tacticdsl.Reference;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslPackage;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
 import org.eclipse.xtext.validation.Check;
@@ -78,7 +80,7 @@ public class DomainObjectValidator extends AbstractDeclarativeValidator {
 	public void checkForAmbiguousReferences(Reference reference) {
 		if (reference.getDomainObjectType() == null)
 			return;
-		List<SimpleDomainObject> referencedObjects = EcoreUtil2.eAllOfType(EcoreUtil2.getRootContainer(reference), SimpleDomainObject.class).stream()
+		List<SimpleDomainObject> referencedObjects = getAllSimpleDomainObjects(reference).stream()
 				.filter(o -> o.getName().equals(reference.getDomainObjectType().getName())).collect(Collectors.toList());
 		if (referencedObjects.size() > 1)
 			warning(String.format(REFERENCE_IS_AMBIGUOUS, reference.getDomainObjectType().getName()), reference, TacticdslPackage.Literals.REFERENCE__DOMAIN_OBJECT_TYPE);
@@ -86,7 +88,7 @@ public class DomainObjectValidator extends AbstractDeclarativeValidator {
 
 	@Check
 	public void checkForDuplicateDomainNames(SimpleDomainObject simpleDomainObject) {
-		List<SimpleDomainObject> objects = EcoreUtil2.eAllOfType(EcoreUtil2.getRootContainer(simpleDomainObject), SimpleDomainObject.class).stream()
+		List<SimpleDomainObject> objects = getAllSimpleDomainObjects(simpleDomainObject).stream()
 				.filter(o -> o.getName().equals(simpleDomainObject.getName())).collect(Collectors.toList());
 		if (objects.size() > 1)
 			warning(String.format(DOMAIN_OBJECT_NAME_ALREADY_EXISTS, simpleDomainObject.getName()), simpleDomainObject, TacticdslPackage.Literals.SIMPLE_DOMAIN_OBJECT__NAME);
@@ -105,4 +107,11 @@ public class DomainObjectValidator extends AbstractDeclarativeValidator {
 			warning(String.format(REFERENCE_TO_NOT_REACHABLE_TYPE, reference.getDomainObjectType().getName()), reference, TacticdslPackage.Literals.REFERENCE__DOMAIN_OBJECT_TYPE);
 	}
 
+	private List<SimpleDomainObject> getAllSimpleDomainObjects(EObject anyObject) {
+		EObject root = EcoreUtil2.getRootContainer(anyObject);
+		if (root instanceof ContextMappingModel)
+			return CMLTypeIndex.getIndex((ContextMappingModel) root).getObjectsOfType(SimpleDomainObject.class);
+		return EcoreUtil2.eAllOfType(root, SimpleDomainObject.class);
+	}
+
 }
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.validation;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLImportResolver;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.util.LineAndColumn;
+import org.eclipse.xtext.util.SimpleAttributeResolver;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.validation.ResourceValidatorImpl;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+
+/**
+ * Resource validator which only re-runs the checks of those top-level elements
+ * (Bounded Contexts, Domains, the Context Map, user requirements, etc.) which
+ * are affected by a change. The issues of all other top-level elements are
+ * taken from the cache of the previous validation run (and moved to the new
+ * position of the element within the document).
+ *
+ * The validator does not intercept the individual model accesses of our
+ * checks. Instead, it approximates the elements a check may read by a
+ * conservative dependency key per top-level element, consisting of:
+ * <ul>
+ * <li>the text (node model) of the element itself,</li>
+ * <li>the text of all top-level elements which are referenced by the element
+ * or which reference the element (also across imported files),</li>
+ * <li>the text of the Context Map,</li>
+ * <li>the (qualified) names of all named objects of the model and its imports
+ * (required for uniqueness and ambiguity checks).</li>
+ * </ul>
+ * Checks which read anything else than that must not be used with this
+ * validator. Note that the validator works with the reparsed AST; it compares
+ * the dependency keys of the new AST with the ones of the last validation run.
+ *
+ * The validator is bound in the IDE module (language server); batch validation
+ * still uses the default {@link ResourceValidatorImpl}.
+ *
+ * @author agent
+ */
+public class IncrementalResourceValidator extends AbstractPartitioningResourceValidator {
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	@Override
+	protected void validate(Resource resource, EObject element, CheckMode mode, CancelIndicator monitor, IAcceptor<Issue> acceptor) {
+		if (!(element instanceof ContextMappingModel) || !(resource instanceof XtextResource) || ((XtextResource) resource).getParseResult() == null) {
+			super.validate(resource, element, mode, monitor, acceptor);
+			return;
+		}
+		List<Issue> issues = Lists.newArrayList();
+		try {
+			validateIncrementally((XtextResource) resource, (ContextMappingModel) element, mode, monitor, issues::add);
+			issues.forEach(acceptor::accept);
+		} catch (RuntimeException e) {
+			operationCanceledManager.propagateAsErrorIfCancelException(e);
+			// fall back to a full validation (without using or updating the cache)
+			IncrementalValidationCache.getCache(resource).clear();
+			super.validate(resource, element, mode, monitor, acceptor);
+		}
+	}
+
+	private void validateIncrementally(XtextResource resource, ContextMappingModel model, CheckMode mode, CancelIndicator monitor, IAcceptor<Issue> acceptor) {
+		Map<Object, Object> options = createValidationOptions(resource, mode, monitor);
+		validateRootModel(model, options, acceptor);
+
+		// checks on the top-level elements (re-used from the cache, if nothing
+		// changed)
+		DependencyKeyCalculator keyCalculator = new DependencyKeyCalculator(resource, model, mode);
+		IncrementalValidationCache cache = IncrementalValidationCache.getCache(resource);
+		Map<HashCode, CachedIssues> newEntries = Maps.newHashMap();
+		for (EObject unit : model.eContents()) {
+			HashCode key = keyCalculator.getDependencyKey(unit);
+			CachedIssues cachedIssues = cache.get(key);
+			if (cachedIssues == null) {
+				List<Issue> issues = Lists.newArrayList();
+				validateUnit(unit, options, issues::add);
+				cachedIssues = new CachedIssues(resource, unit, issues);
+				issues.forEach(acceptor::accept);
+			} else {
+				cachedIssues.replay(resource, unit, acceptor);
+			}
+			if (cachedIssues.isCacheable())
+				newEntries.put(key, cachedIssues);
+		}
+		cache.replace(newEntries);
+	}
+
+	/**
+	 * Calculates the dependency keys of the top-level elements of a model.
+	 */
+	private static class DependencyKeyCalculator {
+
+		private final XtextResource resource;
+		private final ContextMappingModel model;
+		private final CheckMode mode;
+		private final Map<EObject, HashCode> textFingerprints = new IdentityHashMap<>();
+		private final Map<EObject, Set<EObject>> dependencies = new IdentityHashMap<>();
+		private HashCode globalFingerprint;
+
+		DependencyKeyCalculator(XtextResource resource, ContextMappingModel model, CheckMode mode) {
+			this.resource = resource;
+			this.model = model;
+			this.mode = mode;
+		}
+
+		HashCode getDependencyKey(EObject unit) {
+			if (globalFingerprint == null)
+				initialize();
+			Hasher hasher = Hashing.murmur3_128().newHasher();
+			hasher.putInt(System.identityHashCode(mode));
+			hasher.putBytes(globalFingerprint.asBytes());
+			hasher.putBytes(getTextFingerprint(unit).asBytes());
+			List<String> dependencyFingerprints = Lists.newArrayList();
+			for (EObject dependency : dependencies.getOrDefault(unit, Collections.emptySet()))
+				dependencyFingerprints.add(getTextFingerprint(dependency).toString());
+			Collections.sort(dependencyFingerprints);
+			dependencyFingerprints.forEach(f -> hasher.putString(f, Charsets.UTF_8));
+			return hasher.hash();
+		}
+
+		private void initialize() {
+			Hasher hasher = Hashing.murmur3_128().newHasher();
+			if (model.getMap() != null)
+				hasher.putBytes(getTextFingerprint(model.getMap()).asBytes());
+			putNames(hasher, model);
+			for (CMLResource importedResource : new CMLImportResolver().resolveImportedResources(new CMLResource(resource))) {
+				hasher.putString(importedResource.getURI().toString(), Charsets.UTF_8);
+				putNames(hasher, importedResource.getContextMappingModel());
+			}
+			globalFingerprint = hasher.hash();
+
+			for (EObject unit : model.eContents())
+				collectDependencies(unit);
+		}
+
+		private void putNames(Hasher hasher, ContextMappingModel model) {
+			TreeIterator<EObject> iterator = model.eAllContents();
+			while (iterator.hasNext()) {
+				EObject object = iterator.next();
+				String name = SimpleAttributeResolver.NAME_RESOLVER.apply(object);
+				if (name == null)
+					continue;
+				hasher.putString(object.eClass().getName(), Charsets.UTF_8);
+				for (EObject container = object.eContainer(); container != null; container = container.eContainer()) {
+					String containerName = SimpleAttributeResolver.NAME_RESOLVER.apply(container);
+					if (containerName != null)
+						hasher.putString(containerName, Charsets.UTF_8).putChar('.');
+				}
+				hasher.putString(name, Charsets.UTF_8).putChar(';');
+			}
+		}
+
+		private void collectDependencies(EObject unit) {
+			TreeIterator<EObject> iterator = EcoreUtil.getAllContents(Collections.singleton(unit));
+			while (iterator.hasNext()) {
+				for (EObject referencedObject : iterator.next().eCrossReferences()) {
+					EObject referencedUnit = referencedObject.eIsProxy() ? null : getUnit(referencedObject);
+					if (referencedUnit == null) {
+						// unresolved or unsupported reference: depend on the global state only
+						dependencies.computeIfAbsent(unit, u -> Sets.newHashSet()).add(model);
+						continue;
+					}
+					if (referencedUnit == unit)
+						continue;
+					dependencies.computeIfAbsent(unit, u -> Sets.newHashSet()).add(referencedUnit);
+					dependencies.computeIfAbsent(referencedUnit, u -> Sets.newHashSet()).add(unit);
+				}
+			}
+		}
+
+		private EObject getUnit(EObject object) {
+			EObject unit = object;
+			while (unit.eContainer() != null && !(unit.eContainer() instanceof ContextMappingModel))
+				unit = unit.eContainer();
+			return unit.eContainer() != null ? unit : null;
+		}
+
+		private HashCode getTextFingerprint(EObject object) {
+			return textFingerprints.computeIfAbsent(object, o -> {
+				ICompositeNode node = NodeModelUtils.getNode(o);
+				if (node == null)
+					return Hashing.murmur3_128().hashInt(System.identityHashCode(o));
+				return Hashing.murmur3_128().hashString(node.getText(), Charsets.UTF_8);
+			});
+		}
+
+	}
+
+	/**
+	 * The issues of a top-level element, stored relative to the position of the
+	 * element.
+	 */
+	private static class CachedIssues {
+
+		private final List<Issue> issues;
+		private final String unitFragment;
+		private final int unitOffset;
+		private final int unitLine;
+		private final int unitColumn;
+		private boolean cacheable = true;
+
+		CachedIssues(XtextResource resource, EObject unit, List<Issue> issues) {
+			this.issues = Lists.newArrayList(issues);
+			this.unitFragment = resource.getURIFragment(unit);
+			ICompositeNode node = NodeModelUtils.getNode(unit);
+			if (node == null) {
+				this.unitOffset = this.unitLine = this.unitColumn = -1;
+				this.cacheable = false;
+				return;
+			}
+			LineAndColumn lineAndColumn = NodeModelUtils.getLineAndColumn(node, node.getTotalOffset());
+			this.unitOffset = node.getTotalOffset();
+			this.unitLine = lineAndColumn.getLine();
+			this.unitColumn = lineAndColumn.getColumn();
+			for (Issue issue : issues) {
+				// issues which are not located within the element cannot be moved
+				if (!isWithinUnit(issue, resource.getURI(), node))
+					cacheable = false;
+			}
+		}
+
+		boolean isCacheable() {
+			return cacheable;
+		}
+
+		private boolean isWithinUnit(Issue issue, URI resourceURI, ICompositeNode node) {
+			URI uriToProblem = issue.getUriToProblem();
+			if (uriToProblem == null || !resourceURI.equals(uriToProblem.trimFragment()) || !isUnitFragment(uriToProblem.fragment()))
+				return false;
+			return issue.getOffset() != null && issue.getLineNumber() != null && issue.getColumn() != null && issue.getOffset() >= node.getTotalOffset()
+					&& issue.getOffset() <= node.getTotalEndOffset();
+		}
+
+		private boolean isUnitFragment(String fragment) {
+			return fragment != null && (fragment.equals(unitFragment) || fragment.startsWith(unitFragment + "/"));
+		}
+
+		void replay(XtextResource resource, EObject unit, IAcceptor<Issue> acceptor) {
+			ICompositeNode node = NodeModelUtils.getNode(unit);
+			LineAndColumn lineAndColumn = NodeModelUtils.getLineAndColumn(node, node.getTotalOffset());
+			String newUnitFragment = resource.getURIFragment(unit);
+			for (Issue issue : issues)
+				acceptor.accept(moveIssue(issue, node.getTotalOffset(), lineAndColumn, newUnitFragment));
+		}
+
+		private Issue moveIssue(Issue issue, int newUnitOffset, LineAndColumn newUnitPosition, String newUnitFragment) {
+			Issue.IssueImpl movedIssue = new Issue.IssueImpl();
+			movedIssue.setCode(issue.getCode());
+			movedIssue.setMessage(issue.getMessage());
+			movedIssue.setSeverity(issue.getSeverity());
+			movedIssue.setType(issue.getType());
+			movedIssue.setData(issue.getData());
+			movedIssue.setSyntaxError(issue.isSyntaxError());
+			movedIssue.setLength(issue.getLength());
+			movedIssue.setOffset(issue.getOffset() - unitOffset + newUnitOffset);
+			movedIssue.setLineNumber(moveLine(issue.getLineNumber(), newUnitPosition));
+			movedIssue.setColumn(moveColumn(issue.getLineNumber(), issue.getColumn(), newUnitPosition));
+			if (issue.getLineNumberEnd() != null) {
+				movedIssue.setLineNumberEnd(moveLine(issue.getLineNumberEnd(), newUnitPosition));
+				movedIssue.setColumnEnd(moveColumn(issue.getLineNumberEnd(), issue.getColumnEnd(), newUnitPosition));
+			}
+			URI uriToProblem = issue.getUriToProblem();
+			movedIssue.setUriToProblem(uriToProblem.trimFragment().appendFragment(newUnitFragment + uriToProblem.fragment().substring(unitFragment.length())));
+			return movedIssue;
+		}
+
+		private Integer moveLine(Integer line, LineAndColumn newUnitPosition) {
+			return line - unitLine + newUnitPosition.getLine();
+		}
+
+		private Integer moveColumn(Integer line, Integer column, LineAndColumn newUnitPosition) {
+			if (column == null || !line.equals(unitLine))
+				return column;
+			return column - unitColumn + newUnitPosition.getColumn();
+		}
+
+	}
+
+	/**
+	 * Cache of the issues per dependency key, attached to the validated resource.
+	 */
+	private static class IncrementalValidationCache extends AdapterImpl {
+
+		private Map<HashCode, CachedIssues> entries = Maps.newHashMap();
+
+		static synchronized IncrementalValidationCache getCache(Resource resource) {
+			IncrementalValidationCache cache = (IncrementalValidationCache) EcoreUtil.getExistingAdapter(resource, IncrementalValidationCache.class);
+			if (cache == null) {
+				cache = new IncrementalValidationCache();
+				resource.eAdapters().add(cache);
+			}
+			return cache;
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == IncrementalValidationCache.class;
+		}
+
+		synchronized CachedIssues get(HashCode key) {
+			return entries.get(key);
+		}
+
+		synchronized void replace(Map<HashCode, CachedIssues> newEntries) {
+			entries = newEntries;
+		}
+
+		synchronized void clear() {
+			entries = Maps.newHashMap();
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.contextmapper.dsl.cml.CMLModelWarmUp;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Resource validator which validates the top-level elements of a CML model
+ * (Bounded Contexts, Domains, the Context Map, user requirements, etc.) in
+ * parallel on a {@link ForkJoinPool}. The issues are reported in the same
+ * order as with a sequential validation (root model first, then the top-level
+ * elements in the order of the document).
+ *
+ * The resource is prepared with {@link CMLModelWarmUp} before the partitions
+ * are validated; the checks themselves must not modify the model.
+ *
+ * The validator is not bound by default (opt-in); get an instance from the
+ * injector to use it, for example:
+ *
+ * <pre>
+ * injector.getInstance(ParallelResourceValidator.class).validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+ * </pre>
+ *
+ * @author agent
+ */
+public class ParallelResourceValidator extends AbstractPartitioningResourceValidator {
+
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	/**
+	 * Sets the pool on which the top-level elements are validated (default: the
+	 * common pool).
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	protected void validate(Resource resource, EObject element, CheckMode mode, CancelIndicator monitor, IAcceptor<Issue> acceptor) {
+		if (!(element instanceof ContextMappingModel) || !(resource instanceof XtextResource)) {
+			super.validate(resource, element, mode, monitor, acceptor);
+			return;
+		}
+		XtextResource xtextResource = (XtextResource) resource;
+		ContextMappingModel model = (ContextMappingModel) element;
+		prepareModel(xtextResource);
+
+		Map<Object, Object> options = createValidationOptions(xtextResource, mode, monitor);
+		validateRootModel(model, options, acceptor);
+
+		List<Callable<List<Issue>>> partitions = Lists.newArrayList();
+		for (EObject unit : model.eContents()) {
+			partitions.add(() -> {
+				List<Issue> issues = Lists.newArrayList();
+				validateUnit(unit, options, issues::add);
+				return issues;
+			});
+		}
+		for (Future<List<Issue>> partition : pool.invokeAll(partitions))
+			getIssues(partition).forEach(acceptor::accept);
+	}
+
+	/**
+	 * Resolves and attaches everything that would otherwise be created lazily (and
+	 * therefore modify the models or the resource set) while the partitions are
+	 * validated: proxies, imports, index adapters and the resource scope caches.
+	 */
+	private void prepareModel(XtextResource resource) {
+		CMLModelWarmUp.warmUp(new CMLResource(resource));
+	}
+
+	private List<Issue> getIssues(Future<List<Issue>> partition) {
+		try {
+			return partition.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("The validation has been interrupted.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new ContextMapperApplicationException("The validation of a model element failed.", e.getCause());
+		}
+	}
+
+}
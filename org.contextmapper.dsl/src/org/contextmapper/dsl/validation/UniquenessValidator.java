@@ -29,13 +29,16 @@ import static org.contextmapper.dsl.validation.ValidationMessages.FLOW_NAME_NOT_
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
+import org.contextmapper.dsl.cml.CMLNameIndex;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Domain;
 import org.contextmapper.dsl.contextMappingDSL.Flow;
 import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
@@ -44,16 +47,18 @@ import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
 import org.contextmapper.tactic.dsl.tacticdsl.Service;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslPackage;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.validation.Check;
 import org.eclipse.xtext.validation.EValidatorRegistrar;
-import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
 import com.google.common.collect.Sets;
 
 public class UniquenessValidator extends AbstractCMLValidator {
 
+	static final String NAME_INDEX_CONTEXT_KEY = UniquenessValidator.class.getName() + ".nameIndex";
+
 	@Override
 	public void register(EValidatorRegistrar registrar) {
 		// not needed for classes used as ComposedCheck
@@ -61,63 +66,32 @@ public class UniquenessValidator extends AbstractCMLValidator {
 
 	@Check
 	public void validateThatBoundedContextNameIsUnique(final BoundedContext bc) {
-		if (bc != null) {
-			Iterator<BoundedContext> allBoundedContexts = new CMLModelObjectsResolvingHelper(getRootCMLModel(bc)).resolveAllObjectsOfType(BoundedContext.class).iterator();
-			Iterator<BoundedContext> duplicateBoundedContexts = IteratorExtensions.filter(allBoundedContexts,
-					((Function1<BoundedContext, Boolean>) (BoundedContext boundedcontext) -> {
-						return boundedcontext.getName().equals(bc.getName());
-					}));
-			if (IteratorExtensions.size(duplicateBoundedContexts) > 1)
-				error(String.format(BOUNDED_CONTEXT_NAME_NOT_UNIQUE, bc.getName()), bc, ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT__NAME);
-		}
+		if (bc != null && getNameIndex(bc).countObjectsByName(BoundedContext.class, bc.getName()) > 1)
+			error(String.format(BOUNDED_CONTEXT_NAME_NOT_UNIQUE, bc.getName()), bc, ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT__NAME);
 	}
 
 	@Check
 	public void validateThatDomainNameIsUnique(final Domain domain) {
-		if (domain != null) {
-			Iterator<Domain> allDomains = new CMLModelObjectsResolvingHelper(getRootCMLModel(domain)).resolveAllObjectsOfType(Domain.class).iterator();
-			Iterator<Domain> duplicateDomains = IteratorExtensions.filter(allDomains, ((Function1<Domain, Boolean>) (Domain d) -> {
-				return domain.getName().equals(d.getName());
-			}));
-			if (IteratorExtensions.size(duplicateDomains) > 1)
-				error(String.format(DOMAIN_NOT_UNIQUE, domain.getName()), domain, ContextMappingDSLPackage.Literals.DOMAIN_PART__NAME);
-		}
+		if (domain != null && getNameIndex(domain).countObjectsByName(Domain.class, domain.getName()) > 1)
+			error(String.format(DOMAIN_NOT_UNIQUE, domain.getName()), domain, ContextMappingDSLPackage.Literals.DOMAIN_PART__NAME);
 	}
 
 	@Check
 	public void validateThatSubdomainNameIsUnique(final Subdomain subdomain) {
-		if (subdomain != null) {
-			Iterator<Subdomain> allSubdomains = new CMLModelObjectsResolvingHelper(getRootCMLModel(subdomain)).resolveAllObjectsOfType(Subdomain.class).iterator();
-			Iterator<Subdomain> duplicateSubdomains = IteratorExtensions.filter(allSubdomains, ((Function1<Subdomain, Boolean>) (Subdomain sd) -> {
-				return subdomain.getName().equals(sd.getName());
-			}));
-			if (IteratorExtensions.size(duplicateSubdomains) > 1)
-				error(String.format(SUBDOMAIN_OBJECT_NOT_UNIQUE, subdomain.getName()), subdomain, ContextMappingDSLPackage.Literals.DOMAIN_PART__NAME);
-		}
+		if (subdomain != null && getNameIndex(subdomain).countObjectsByName(Subdomain.class, subdomain.getName()) > 1)
+			error(String.format(SUBDOMAIN_OBJECT_NOT_UNIQUE, subdomain.getName()), subdomain, ContextMappingDSLPackage.Literals.DOMAIN_PART__NAME);
 	}
 
 	@Check
 	public void validateThatModuleNameIsUnique(final SculptorModule module) {
-		if (module != null) {
-			Iterator<SculptorModule> allModules = new CMLModelObjectsResolvingHelper(getRootCMLModel(module)).resolveAllObjectsOfType(SculptorModule.class).iterator();
-			Iterator<SculptorModule> duplicateModules = IteratorExtensions.filter(allModules, ((Function1<SculptorModule, Boolean>) (SculptorModule m) -> {
-				return m.getName().equals(module.getName());
-			}));
-			if (IteratorExtensions.size(duplicateModules) > 1)
-				error(String.format(MODULE_NAME_NOT_UNIQUE, module.getName()), module, ContextMappingDSLPackage.Literals.SCULPTOR_MODULE__NAME);
-		}
+		if (module != null && getNameIndex(module).countObjectsByName(SculptorModule.class, module.getName()) > 1)
+			error(String.format(MODULE_NAME_NOT_UNIQUE, module.getName()), module, ContextMappingDSLPackage.Literals.SCULPTOR_MODULE__NAME);
 	}
 
 	@Check
 	public void validateThatAggregateNameIsUnique(final Aggregate aggregate) {
-		if (aggregate != null) {
-			Iterator<Aggregate> allAggregates = new CMLModelObjectsResolvingHelper(getRootCMLModel(aggregate)).resolveAllObjectsOfType(Aggregate.class).iterator();
-			Iterator<Aggregate> duplicateAggregates = IteratorExtensions.filter(allAggregates, ((Function1<Aggregate, Boolean>) (Aggregate a) -> {
-				return a.getName().equals(aggregate.getName());
-			}));
-			if (IteratorExtensions.size(duplicateAggregates) > 1)
-				error(String.format(AGGREGATE_NAME_NOT_UNIQUE, aggregate.getName()), aggregate, ContextMappingDSLPackage.Literals.AGGREGATE__NAME);
-		}
+		if (aggregate != null && getNameIndex(aggregate).countObjectsByName(Aggregate.class, aggregate.getName()) > 1)
+			error(String.format(AGGREGATE_NAME_NOT_UNIQUE, aggregate.getName()), aggregate, ContextMappingDSLPackage.Literals.AGGREGATE__NAME);
 	}
 
 	@Check
@@ -150,14 +124,8 @@ public class UniquenessValidator extends AbstractCMLValidator {
 
 	@Check
 	public void validateThatUseCaseNameIsUnique(final UserRequirement uc) {
-		if (uc != null) {
-			Iterator<UserRequirement> allUseCases = new CMLModelObjectsResolvingHelper(getRootCMLModel(uc)).resolveAllObjectsOfType(UserRequirement.class).iterator();
-			Iterator<UserRequirement> duplicateUseCases = IteratorExtensions.filter(allUseCases, ((Function1<UserRequirement, Boolean>) (UserRequirement u) -> {
-				return u.getName().equals(uc.getName());
-			}));
-			if (IteratorExtensions.size(duplicateUseCases) > 1)
-				error(String.format(USE_CASE_NAME_NOT_UNIQUE, uc.getName()), uc, ContextMappingDSLPackage.Literals.USER_REQUIREMENT__NAME);
-		}
+		if (uc != null && getNameIndex(uc).countObjectsByName(UserRequirement.class, uc.getName()) > 1)
+			error(String.format(USE_CASE_NAME_NOT_UNIQUE, uc.getName()), uc, ContextMappingDSLPackage.Literals.USER_REQUIREMENT__NAME);
 	}
 
 	@Check
@@ -183,16 +151,38 @@ public class UniquenessValidator extends AbstractCMLValidator {
 
 	@Check
 	public void validateThatFlowNameIsUnique(final Flow flow) {
-		if (flow != null) {
-			Iterator<Flow> allFlows = EcoreUtil2.eAllOfType(getRootCMLModel(flow), Flow.class).iterator();
-			Iterator<Flow> duplicateFlows = IteratorExtensions.filter(allFlows, ((Function1<Flow, Boolean>) (Flow f) -> {
-				return f.getName().equals(flow.getName());
-			}));
-			if (IteratorExtensions.size(duplicateFlows) > 1)
-				error(String.format(FLOW_NAME_NOT_UNIQUE, flow.getName()), flow, ContextMappingDSLPackage.Literals.FLOW__NAME);
-		}
+		if (flow == null)
+			return;
+		ContextMappingModel rootModel = getRootCMLModel(flow);
+		// flow names only have to be unique within the same file (imports are not considered)
+		long flowsWithSameName = getNameIndex(flow).getObjectsByName(Flow.class, flow.getName()).stream().filter(f -> EcoreUtil2.getRootContainer(f) == rootModel).count();
+		if (flowsWithSameName > 1)
+			error(String.format(FLOW_NAME_NOT_UNIQUE, flow.getName()), flow, ContextMappingDSLPackage.Literals.FLOW__NAME);
 	}
 	
+	/**
+	 * The name index is built once per validation pass (the validation context
+	 * only lives for the validation of one resource) and is shared by all the
+	 * uniqueness checks above. Without a validation context (checks invoked
+	 * directly) we build a fresh index. Validators which split a pass into
+	 * several Diagnostician runs share the index by passing the same (concurrent)
+	 * map under {@link #NAME_INDEX_CONTEXT_KEY} in all runs.
+	 */
+	private CMLNameIndex getNameIndex(EObject modelElement) {
+		ContextMappingModel rootModel = getRootCMLModel(modelElement);
+		Map<Object, Object> context = getContext();
+		if (context == null)
+			return createNameIndex(rootModel);
+
+		@SuppressWarnings("unchecked")
+		Map<ContextMappingModel, CMLNameIndex> indexes = (Map<ContextMappingModel, CMLNameIndex>) context.computeIfAbsent(NAME_INDEX_CONTEXT_KEY, k -> new ConcurrentHashMap<>());
+		return indexes.computeIfAbsent(rootModel, m -> createNameIndex(m));
+	}
+
+	private CMLNameIndex createNameIndex(ContextMappingModel rootModel) {
+		return new CMLNameIndex(rootModel, BoundedContext.class, Domain.class, Subdomain.class, SculptorModule.class, Aggregate.class, UserRequirement.class, Flow.class);
+	}
+
 	private void checkDomainObjectUnique(List<SimpleDomainObject> domainObjects) {
 		Set<String> usedNames = new HashSet<>();
 		for (SimpleDomainObject o : domainObjects) {